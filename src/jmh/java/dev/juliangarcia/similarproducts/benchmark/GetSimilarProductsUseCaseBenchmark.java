@@ -0,0 +1,58 @@
+package dev.juliangarcia.similarproducts.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import dev.juliangarcia.similarproducts.application.usecase.GetSimilarProductsUseCase;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetSimilarProductsUseCaseBenchmark {
+
+  @Param({"5", "50"})
+  private int fanOut;
+
+  @Param({"0", "1000"})
+  private long latencyMicros;
+
+  private ExecutorService executor;
+
+  private GetSimilarProductsUseCase useCase;
+
+  @Setup
+  public void setUp() {
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.useCase = new GetSimilarProductsUseCase(new StubProductRepository(this.fanOut, this.latencyMicros),
+        () -> this.executor, new SimpleMeterRegistry());
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Benchmark
+  public List<ProductDetails> execute() {
+    return this.useCase.execute("1");
+  }
+}
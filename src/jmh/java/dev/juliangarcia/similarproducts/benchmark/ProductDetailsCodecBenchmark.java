@@ -0,0 +1,64 @@
+package dev.juliangarcia.similarproducts.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.infrastructure.controller.json.ProductDetailsSerializer;
+import dev.juliangarcia.similarproducts.infrastructure.repository.json.ProductDetailsDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductDetailsCodecBenchmark {
+
+  @Param({"5", "50"})
+  private int fanOut;
+
+  private ObjectMapper objectMapper;
+
+  private List<byte[]> upstreamResponses;
+
+  @Setup
+  public void setUp() {
+    this.objectMapper = Jackson2ObjectMapperBuilder.json()
+        .serializerByType(ProductDetails.class, new ProductDetailsSerializer())
+        .deserializerByType(ProductDetails.class, new ProductDetailsDeserializer())
+        .build();
+    this.upstreamResponses = IntStream.rangeClosed(1, this.fanOut).mapToObj(this::createResponse).toList();
+  }
+
+  @Benchmark
+  public byte[] decodeAndEncode() throws IOException {
+    final List<ProductDetails> productDetails = new ArrayList<>(this.fanOut);
+    for (final byte[] response : this.upstreamResponses) {
+      productDetails.add(this.objectMapper.readValue(response, ProductDetails.class));
+    }
+    return this.objectMapper.writeValueAsBytes(productDetails);
+  }
+
+  private byte[] createResponse(final int id) {
+    return ("{\"id\":\"" + id + "\",\"name\":\"Product " + id + "\",\"price\":19.99,\"availability\":"
+        + (id % 2 == 0) + "}").getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,61 @@
+package dev.juliangarcia.similarproducts.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.infrastructure.controller.json.ProductDetailsSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({"5", "50"})
+  private int fanOut;
+
+  private ObjectWriter writer;
+
+  private List<ProductDetails> productDetails;
+
+  @Setup
+  public void setUp() {
+    this.writer = Jackson2ObjectMapperBuilder.json()
+        .serializerByType(ProductDetails.class, new ProductDetailsSerializer())
+        .build()
+        .writer();
+    this.productDetails = IntStream.rangeClosed(1, this.fanOut).mapToObj(this::createProductDetails).toList();
+  }
+
+  @Benchmark
+  public byte[] serializeProductDetails() throws JsonProcessingException {
+    return this.writer.writeValueAsBytes(this.productDetails);
+  }
+
+  private ProductDetails createProductDetails(final int id) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(String.valueOf(id));
+    productDetails.setName("Product " + id);
+    productDetails.setPrice(19.99);
+    productDetails.setAvailability(id % 2 == 0);
+    return productDetails;
+  }
+}
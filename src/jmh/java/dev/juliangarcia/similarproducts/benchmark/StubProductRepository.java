@@ -0,0 +1,44 @@
+package dev.juliangarcia.similarproducts.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+
+public class StubProductRepository implements ProductRepository {
+
+  private final List<String> similarProductIds;
+
+  private final long latencyNanos;
+
+  public StubProductRepository(int fanOut, long latencyMicros) {
+    this.similarProductIds = IntStream.rangeClosed(1, fanOut).mapToObj(String::valueOf).toList();
+    this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    this.simulateLatency();
+    return this.similarProductIds;
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    this.simulateLatency();
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(productId);
+    productDetails.setName("Product " + productId);
+    productDetails.setPrice(19.99);
+    productDetails.setAvailability(true);
+    return productDetails;
+  }
+
+  private void simulateLatency() {
+    if (this.latencyNanos > 0) {
+      LockSupport.parkNanos(this.latencyNanos);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package dev.juliangarcia.similarproducts.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class LoadDriver implements AutoCloseable {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+  private final URI target;
+
+  private final int rps;
+
+  private final Duration clientTimeout;
+
+  private final double[] cumulativeWeights;
+
+  private final SplittableRandom random;
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  private final HttpClient httpClient;
+
+  public LoadDriver(URI target, LoadTestOptions options) {
+    this.target = target;
+    this.rps = options.getRps();
+    this.clientTimeout = options.getClientTimeout();
+    this.cumulativeWeights = this.zipfCumulativeWeights(options.getCatalogSize(), options.getZipfExponent());
+    this.random = new SplittableRandom(options.getSeed());
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(this.clientTimeout)
+        .executor(this.executor)
+        .build();
+  }
+
+  public Result run(Duration duration) throws InterruptedException {
+    final int requests = (int) (this.rps * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+    final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / this.rps;
+    final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    final CountDownLatch completed = new CountDownLatch(requests);
+
+    final long start = System.nanoTime();
+    for (int i = 0; i < requests; i++) {
+      final long intended = start + i * intervalNanos;
+      final URI uri = this.target.resolve("/product/" + this.nextProductId() + "/similar");
+      LockSupport.parkNanos(intended - System.nanoTime());
+      this.executor.execute(() -> {
+        try {
+          final String outcome = this.send(uri);
+          latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended),
+              HIGHEST_TRACKABLE_MICROS));
+          outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        } finally {
+          completed.countDown();
+        }
+      });
+    }
+    completed.await(this.clientTimeout.toMillis() * 2, TimeUnit.MILLISECONDS);
+    final long elapsedNanos = System.nanoTime() - start;
+
+    final Map<String, Long> outcomeCounts = new TreeMap<>();
+    outcomes.forEach((outcome, count) -> outcomeCounts.put(outcome, count.sum()));
+    return new Result(requests, elapsedNanos, latency, outcomeCounts);
+  }
+
+  @Override
+  public void close() {
+    this.httpClient.close();
+    this.executor.shutdownNow();
+  }
+
+  private String send(final URI uri) {
+    final HttpRequest request = HttpRequest.newBuilder(uri).timeout(this.clientTimeout).GET().build();
+    try {
+      return String.valueOf(this.httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    } catch (final HttpTimeoutException ex) {
+      return "timeout";
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return "interrupted";
+    } catch (final IOException ex) {
+      return "error";
+    }
+  }
+
+  private long nextProductId() {
+    final int index = Arrays.binarySearch(this.cumulativeWeights, this.random.nextDouble());
+    return (index >= 0 ? index : -index - 1) + 1;
+  }
+
+  private double[] zipfCumulativeWeights(final int catalogSize, final double exponent) {
+    final double[] weights = new double[catalogSize];
+    double total = 0;
+    for (int rank = 1; rank <= catalogSize; rank++) {
+      total += 1 / Math.pow(rank, exponent);
+      weights[rank - 1] = total;
+    }
+    for (int i = 0; i < catalogSize; i++) {
+      weights[i] /= total;
+    }
+    weights[catalogSize - 1] = 1;
+    return weights;
+  }
+
+  public record Result(int requests, long elapsedNanos, Histogram latency, Map<String, Long> outcomes) {
+
+    public long completed() {
+      return this.latency.getTotalCount();
+    }
+
+    public double throughput() {
+      return this.completed() * 1e9 / this.elapsedNanos;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package dev.juliangarcia.similarproducts.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.juliangarcia.similarproducts.SimilarProductsApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class LoadTest {
+
+  public static void main(String[] args) throws Exception {
+    final LoadTestOptions options = LoadTestOptions.parse(args);
+    try (UpstreamSimulator simulator = new UpstreamSimulator(options);
+        ConfigurableApplicationContext context = startApplication(options, simulator.getBaseUri());
+        LoadDriver driver = new LoadDriver(URI.create("http://127.0.0.1:" + port(context)), options)) {
+      System.out.printf("Warming up for %s at %d req/s...%n", options.getWarmUp(), options.getRps());
+      driver.run(options.getWarmUp());
+      simulator.resetCalls();
+
+      System.out.printf("Running for %s at %d req/s...%n", options.getDuration(), options.getRps());
+      final LoadDriver.Result result = driver.run(options.getDuration());
+      final LoadTestReport report = new LoadTestReport(options, result, simulator.getCalls());
+      report.print(System.out);
+      final Path file = report.write(context.getBean(ObjectMapper.class));
+      System.out.println("Report written to " + file.toAbsolutePath());
+    }
+    System.exit(0);
+  }
+
+  private static ConfigurableApplicationContext startApplication(final LoadTestOptions options,
+      final URI upstream) {
+    final Map<String, String> defaults = new LinkedHashMap<>();
+    defaults.put("server.port", "0");
+    defaults.put("warm-up.enabled", "false");
+    defaults.put("rest-client.read-timeout", "1s");
+    defaults.put("logging.level.root", "error");
+    defaults.put("logging.level.dev.juliangarcia.similarproducts", "off");
+
+    final List<String> args = new ArrayList<>(options.getApplicationArgs());
+    args.add("--rest-client.product-base-url=" + upstream);
+    defaults.forEach((name, value) -> {
+      if (args.stream().noneMatch(arg -> arg.startsWith("--" + name + "="))) {
+        args.add("--" + name + "=" + value);
+      }
+    });
+    return SpringApplication.run(SimilarProductsApplication.class, args.toArray(String[]::new));
+  }
+
+  private static int port(final ConfigurableApplicationContext context) {
+    return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+  }
+}
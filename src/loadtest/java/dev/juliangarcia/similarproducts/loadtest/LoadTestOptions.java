@@ -0,0 +1,145 @@
+package dev.juliangarcia.similarproducts.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+public class LoadTestOptions {
+
+  private static final String PREFIX = "--loadtest.";
+
+  private final Map<String, String> options;
+
+  private final List<String> applicationArgs;
+
+  private LoadTestOptions(Map<String, String> options, List<String> applicationArgs) {
+    this.options = options;
+    this.applicationArgs = applicationArgs;
+  }
+
+  public static LoadTestOptions parse(String[] args) {
+    final Map<String, String> options = new HashMap<>();
+    final List<String> applicationArgs = new ArrayList<>();
+    for (final String arg : args) {
+      if (arg.isBlank()) {
+        continue;
+      }
+      if (!arg.startsWith(PREFIX) || !arg.contains("=")) {
+        applicationArgs.add(arg);
+        continue;
+      }
+      final int separator = arg.indexOf('=');
+      options.put(arg.substring(PREFIX.length(), separator), arg.substring(separator + 1));
+    }
+    return new LoadTestOptions(options, applicationArgs);
+  }
+
+  public List<String> getApplicationArgs() {
+    return this.applicationArgs;
+  }
+
+  public String getName() {
+    return this.options.getOrDefault("name", "default");
+  }
+
+  public int getRps() {
+    return this.getInt("rps", 200);
+  }
+
+  public Duration getDuration() {
+    return this.getDuration("duration", Duration.ofSeconds(30));
+  }
+
+  public Duration getWarmUp() {
+    return this.getDuration("warm-up", Duration.ofSeconds(10));
+  }
+
+  public Duration getClientTimeout() {
+    return this.getDuration("client-timeout", Duration.ofSeconds(10));
+  }
+
+  public long getSeed() {
+    return Long.parseLong(this.options.getOrDefault("seed", "42"));
+  }
+
+  public int getCatalogSize() {
+    return this.getInt("catalog-size", 10_000);
+  }
+
+  public double getZipfExponent() {
+    return this.getDouble("zipf-exponent", 1.0);
+  }
+
+  public int getSimilarIds() {
+    return this.getInt("similar-ids", 5);
+  }
+
+  public Duration getLatencyMedian() {
+    return this.getDuration("latency-median", Duration.ofMillis(20));
+  }
+
+  public Duration getLatencyP99() {
+    return this.getDuration("latency-p99", Duration.ofMillis(200));
+  }
+
+  public double getErrorRate() {
+    return this.getDouble("error-rate", 0.01);
+  }
+
+  public double getNotFoundRate() {
+    return this.getDouble("not-found-rate", 0.02);
+  }
+
+  public double getTimeoutRate() {
+    return this.getDouble("timeout-rate", 0.001);
+  }
+
+  public Duration getHang() {
+    return this.getDuration("hang", Duration.ofSeconds(5));
+  }
+
+  public Path getReportDir() {
+    return Path.of(this.options.getOrDefault("report-dir", "target/loadtest"));
+  }
+
+  public Map<String, Object> describe() {
+    final Map<String, Object> description = new LinkedHashMap<>();
+    description.put("name", this.getName());
+    description.put("rps", this.getRps());
+    description.put("duration", this.getDuration().toString());
+    description.put("warmUp", this.getWarmUp().toString());
+    description.put("seed", this.getSeed());
+    description.put("catalogSize", this.getCatalogSize());
+    description.put("zipfExponent", this.getZipfExponent());
+    description.put("similarIds", this.getSimilarIds());
+    description.put("latencyMedian", this.getLatencyMedian().toString());
+    description.put("latencyP99", this.getLatencyP99().toString());
+    description.put("errorRate", this.getErrorRate());
+    description.put("notFoundRate", this.getNotFoundRate());
+    description.put("timeoutRate", this.getTimeoutRate());
+    description.put("hang", this.getHang().toString());
+    description.put("applicationArgs", this.applicationArgs);
+    return description;
+  }
+
+  private int getInt(final String name, final int defaultValue) {
+    final String value = this.options.get(name);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  }
+
+  private double getDouble(final String name, final double defaultValue) {
+    final String value = this.options.get(name);
+    return value == null ? defaultValue : Double.parseDouble(value);
+  }
+
+  private Duration getDuration(final String name, final Duration defaultValue) {
+    final String value = this.options.get(name);
+    return value == null ? defaultValue : DurationStyle.detectAndParse(value);
+  }
+}
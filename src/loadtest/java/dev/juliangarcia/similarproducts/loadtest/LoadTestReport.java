@@ -0,0 +1,107 @@
+package dev.juliangarcia.similarproducts.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+public class LoadTestReport {
+
+  private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+  private final LoadTestOptions options;
+
+  private final LoadDriver.Result result;
+
+  private final Map<String, Long> upstreamCalls;
+
+  public LoadTestReport(LoadTestOptions options, LoadDriver.Result result, Map<String, Long> upstreamCalls) {
+    this.options = options;
+    this.result = result;
+    this.upstreamCalls = upstreamCalls;
+  }
+
+  public void print(PrintStream out) {
+    final Histogram latency = this.result.latency();
+    out.printf(Locale.ROOT, "%n=== Load test '%s' ===%n", this.options.getName());
+    out.printf(Locale.ROOT, "Requests:    %d sent, %d completed in %.1f s%n", this.result.requests(),
+        this.result.completed(), this.result.elapsedNanos() / 1e9);
+    out.printf(Locale.ROOT, "Throughput:  %.1f req/s (target %d req/s)%n", this.result.throughput(),
+        this.options.getRps());
+    out.printf(Locale.ROOT, "Error rate:  %.2f%%%n", this.errorRate() * 100);
+    out.print("Latency:    ");
+    for (final double percentile : PERCENTILES) {
+      out.printf(Locale.ROOT, " p%s=%.1fms", this.label(percentile), latency.getValueAtPercentile(percentile) / 1e3);
+    }
+    out.printf(Locale.ROOT, " max=%.1fms%n", latency.getMaxValue() / 1e3);
+    out.println("Responses:   " + this.result.outcomes());
+    out.println("Upstream:    " + this.upstreamCalls);
+    out.printf(Locale.ROOT, "Upstream calls per request: %.2f%n", this.upstreamCallsPerRequest());
+  }
+
+  public Path write(ObjectMapper objectMapper) throws IOException {
+    final Path directory = this.options.getReportDir();
+    Files.createDirectories(directory);
+    final String baseName = this.options.getName() + "-" + LocalDateTime.now().format(TIMESTAMP);
+
+    final Path histogram = directory.resolve(baseName + ".hgrm");
+    try (PrintStream out = new PrintStream(Files.newOutputStream(histogram))) {
+      this.result.latency().outputPercentileDistribution(out, 1e3);
+    }
+
+    final Path report = directory.resolve(baseName + ".json");
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), this.toMap());
+    return report;
+  }
+
+  private Map<String, Object> toMap() {
+    final Histogram latency = this.result.latency();
+    final Map<String, Object> latencyMillis = new LinkedHashMap<>();
+    latencyMillis.put("min", latency.getMinValue() / 1e3);
+    latencyMillis.put("mean", latency.getMean() / 1e3);
+    for (final double percentile : PERCENTILES) {
+      latencyMillis.put("p" + this.label(percentile), latency.getValueAtPercentile(percentile) / 1e3);
+    }
+    latencyMillis.put("max", latency.getMaxValue() / 1e3);
+
+    final Map<String, Object> report = new LinkedHashMap<>();
+    report.put("options", this.options.describe());
+    report.put("requests", this.result.requests());
+    report.put("completed", this.result.completed());
+    report.put("elapsedSeconds", this.result.elapsedNanos() / 1e9);
+    report.put("throughput", this.result.throughput());
+    report.put("errorRate", this.errorRate());
+    report.put("latencyMillis", latencyMillis);
+    report.put("responses", this.result.outcomes());
+    report.put("upstreamCalls", this.upstreamCalls);
+    report.put("upstreamCallsPerRequest", this.upstreamCallsPerRequest());
+    return report;
+  }
+
+  private double errorRate() {
+    final long failed = this.result.outcomes().entrySet().stream()
+        .filter(outcome -> !outcome.getKey().startsWith("2") && !outcome.getKey().equals("404"))
+        .mapToLong(Map.Entry::getValue)
+        .sum();
+    return this.result.requests() == 0 ? 0 : (double) failed / this.result.requests();
+  }
+
+  private double upstreamCallsPerRequest() {
+    final long calls = this.upstreamCalls.values().stream().mapToLong(Long::longValue).sum();
+    return this.result.completed() == 0 ? 0 : (double) calls / this.result.completed();
+  }
+
+  private String label(final double percentile) {
+    return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+  }
+}
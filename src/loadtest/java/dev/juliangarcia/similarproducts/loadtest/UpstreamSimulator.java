@@ -0,0 +1,202 @@
+package dev.juliangarcia.similarproducts.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class UpstreamSimulator implements AutoCloseable {
+
+  private static final Pattern SIMILAR_IDS = Pattern.compile("^/product/(\\d+)/similarids$");
+
+  private static final Pattern PRODUCT = Pattern.compile("^/product/(\\d+)$");
+
+  private static final Pattern BULK = Pattern.compile("^ids=([\\d,]+)$");
+
+  private static final double Z_99 = 2.3263;
+
+  private final HttpServer server;
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+  private final SplittableRandom random;
+
+  private final long seed;
+
+  private final int catalogSize;
+
+  private final int similarIds;
+
+  private final double latencyMedianMillis;
+
+  private final double latencySigma;
+
+  private final double errorRate;
+
+  private final double notFoundRate;
+
+  private final double timeoutRate;
+
+  private final Duration hang;
+
+  public UpstreamSimulator(LoadTestOptions options) throws IOException {
+    this.seed = options.getSeed();
+    this.random = new SplittableRandom(this.seed);
+    this.catalogSize = options.getCatalogSize();
+    this.similarIds = options.getSimilarIds();
+    this.latencyMedianMillis = options.getLatencyMedian().toNanos() / 1e6;
+    this.latencySigma = Math.log(Math.max(options.getLatencyP99().toNanos(), 1)
+        / (double) Math.max(options.getLatencyMedian().toNanos(), 1)) / Z_99;
+    this.errorRate = options.getErrorRate();
+    this.notFoundRate = options.getNotFoundRate();
+    this.timeoutRate = options.getTimeoutRate();
+    this.hang = options.getHang();
+
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1_024);
+    this.server.setExecutor(this.executor);
+    this.server.createContext("/", this::handle);
+    this.server.start();
+  }
+
+  public URI getBaseUri() {
+    return URI.create("http://127.0.0.1:" + this.server.getAddress().getPort());
+  }
+
+  public Map<String, Long> getCalls() {
+    final Map<String, Long> snapshot = new TreeMap<>();
+    this.calls.forEach((key, count) -> snapshot.put(key, count.sum()));
+    return snapshot;
+  }
+
+  public void resetCalls() {
+    this.calls.clear();
+  }
+
+  @Override
+  public void close() {
+    this.server.stop(0);
+    this.executor.shutdownNow();
+  }
+
+  private void handle(final HttpExchange exchange) throws IOException {
+    try (exchange) {
+      final String path = exchange.getRequestURI().getPath();
+      final Matcher similarIds = SIMILAR_IDS.matcher(path);
+      final Matcher product = PRODUCT.matcher(path);
+      if (similarIds.matches()) {
+        this.respond(exchange, "similarids", false, () -> this.similarIdsJson(Long.parseLong(similarIds.group(1))));
+      } else if (product.matches()) {
+        final long productId = Long.parseLong(product.group(1));
+        this.respond(exchange, "product", this.isMissing(productId), () -> this.productJson(productId));
+      } else if ("/products".equals(path)) {
+        this.respondBulk(exchange);
+      } else {
+        this.send(exchange, "unknown", 404, "{}");
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (final IOException ex) {
+      // The client gave up on the request, typically after a simulated hang.
+    }
+  }
+
+  private void respond(final HttpExchange exchange, final String endpoint, final boolean missing,
+      final Supplier<String> body) throws IOException, InterruptedException {
+    final double outcome = this.nextDouble();
+    if (outcome < this.timeoutRate) {
+      this.count(endpoint, "timeout");
+      Thread.sleep(this.hang);
+      exchange.sendResponseHeaders(504, -1);
+      return;
+    }
+    Thread.sleep(this.nextLatency());
+    if (outcome < this.timeoutRate + this.errorRate) {
+      this.send(exchange, endpoint, 500, "{\"message\":\"simulated error\"}");
+    } else if (missing) {
+      this.send(exchange, endpoint, 404, "{\"message\":\"Product not found\"}");
+    } else {
+      this.send(exchange, endpoint, 200, body.get());
+    }
+  }
+
+  private void respondBulk(final HttpExchange exchange) throws IOException, InterruptedException {
+    final Matcher ids = BULK.matcher(String.valueOf(exchange.getRequestURI().getQuery()));
+    if (!ids.matches()) {
+      this.send(exchange, "products", 400, "{}");
+      return;
+    }
+    this.respond(exchange, "products", false, () -> {
+      final StringJoiner json = new StringJoiner(",", "[", "]");
+      for (final String id : ids.group(1).split(",")) {
+        final long productId = Long.parseLong(id);
+        if (!this.isMissing(productId)) {
+          json.add(this.productJson(productId));
+        }
+      }
+      return json.toString();
+    });
+  }
+
+  private void send(final HttpExchange exchange, final String endpoint, final int status, final String json)
+      throws IOException {
+    this.count(endpoint, String.valueOf(status));
+    final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      responseBody.write(body);
+    }
+  }
+
+  private String similarIdsJson(final long productId) {
+    final StringJoiner json = new StringJoiner(",", "[", "]");
+    for (int i = 1; i <= this.similarIds; i++) {
+      json.add("\"" + ((productId * 7_919 + i * 104_729L) % this.catalogSize + 1) + "\"");
+    }
+    return json.toString();
+  }
+
+  private String productJson(final long productId) {
+    return "{\"id\":\"" + productId + "\",\"name\":\"Product " + productId + "\",\"price\":"
+        + (productId % 10_000) / 100.0 + ",\"availability\":" + (productId % 3 != 0) + "}";
+  }
+
+  private boolean isMissing(final long productId) {
+    return new SplittableRandom(this.seed ^ productId * 0x9E3779B97F4A7C15L).nextDouble() < this.notFoundRate;
+  }
+
+  private Duration nextLatency() {
+    final double millis = this.latencyMedianMillis * Math.exp(this.latencySigma * this.nextGaussian());
+    return Duration.ofNanos((long) (millis * 1e6));
+  }
+
+  private synchronized double nextDouble() {
+    return this.random.nextDouble();
+  }
+
+  private synchronized double nextGaussian() {
+    return this.random.nextGaussian();
+  }
+
+  private void count(final String endpoint, final String outcome) {
+    this.calls.computeIfAbsent(endpoint + " " + outcome, key -> new LongAdder()).increment();
+  }
+}
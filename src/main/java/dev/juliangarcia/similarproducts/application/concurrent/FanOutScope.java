@@ -0,0 +1,124 @@
+package dev.juliangarcia.similarproducts.application.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
+
+public final class FanOutScope<T> implements AutoCloseable {
+
+  private final Executor executor;
+
+  private final List<Subtask> subtasks = new ArrayList<>();
+
+  private final BlockingQueue<Subtask> completed = new LinkedBlockingQueue<>();
+
+  private int joined;
+
+  public FanOutScope(Executor executor) {
+    this.executor = executor;
+  }
+
+  public Future<T> fork(Callable<T> task) {
+    final Subtask subtask = new Subtask(task, RequestDeadline.current(), StalenessTracker.current());
+    this.subtasks.add(subtask);
+    this.executor.execute(subtask);
+    return subtask;
+  }
+
+  public List<T> join() {
+    Future<T> subtask;
+    while ((subtask = this.nextCompleted()) != null) {
+      if (subtask.state() == Future.State.FAILED) {
+        this.shutdown();
+        throw new CompletionException(subtask.exceptionNow());
+      }
+    }
+    return this.subtasks.stream().map(Future::resultNow).toList();
+  }
+
+  public void joinUntil(long deadline) {
+    try {
+      while (this.nextCompleted(deadline) != null) {
+        // keep joining until every task has completed or the deadline is reached
+      }
+    } finally {
+      this.shutdown();
+    }
+  }
+
+  public Future<T> nextCompleted() {
+    try {
+      return this.joined < this.subtasks.size() ? this.joined(this.completed.take()) : null;
+    } catch (final InterruptedException ex) {
+      throw this.cancelled();
+    }
+  }
+
+  public Future<T> nextCompleted(long deadline) {
+    try {
+      final long remaining = deadline - System.nanoTime();
+      if (this.joined >= this.subtasks.size() || remaining <= 0) {
+        return null;
+      }
+      final Subtask subtask = this.completed.poll(remaining, TimeUnit.NANOSECONDS);
+      return subtask == null ? null : this.joined(subtask);
+    } catch (final InterruptedException ex) {
+      throw this.cancelled();
+    }
+  }
+
+  public void shutdown() {
+    this.subtasks.forEach(subtask -> subtask.cancel(true));
+  }
+
+  @Override
+  public void close() {
+    this.shutdown();
+  }
+
+  private Subtask joined(final Subtask subtask) {
+    this.joined++;
+    return subtask;
+  }
+
+  private ProductRequestCancelledException cancelled() {
+    Thread.currentThread().interrupt();
+    this.shutdown();
+    return new ProductRequestCancelledException("Interrupted while waiting for forked tasks.");
+  }
+
+  private final class Subtask extends FutureTask<T> {
+
+    private final Long deadline;
+
+    private final StalenessTracker stalenessTracker;
+
+    private Subtask(final Callable<T> task, final Long deadline, final StalenessTracker stalenessTracker) {
+      super(task);
+      this.deadline = deadline;
+      this.stalenessTracker = stalenessTracker;
+    }
+
+    @Override
+    public void run() {
+      RequestDeadline.callUntil(this.deadline, () -> StalenessTracker.callTracking(this.stalenessTracker, () -> {
+        super.run();
+        return null;
+      }));
+    }
+
+    @Override
+    protected void done() {
+      FanOutScope.this.completed.add(this);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package dev.juliangarcia.similarproducts.application.concurrent;
+
+import java.util.function.Supplier;
+
+public final class RequestDeadline {
+
+  private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+  private RequestDeadline() {
+  }
+
+  public static <T> T callUntil(Long deadline, Supplier<T> call) {
+    final Long previous = DEADLINE.get();
+    DEADLINE.set(deadline);
+    try {
+      return call.get();
+    } finally {
+      if (previous == null) {
+        DEADLINE.remove();
+      } else {
+        DEADLINE.set(previous);
+      }
+    }
+  }
+
+  public static Long current() {
+    return DEADLINE.get();
+  }
+
+  public static long remainingNanos() {
+    final Long deadline = DEADLINE.get();
+    return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+  }
+}
@@ -0,0 +1,54 @@
+package dev.juliangarcia.similarproducts.application.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public final class StalenessTracker {
+
+  private static final ThreadLocal<StalenessTracker> CURRENT = new ThreadLocal<>();
+
+  private final AtomicLong oldestAgeNanos = new AtomicLong();
+
+  private volatile boolean stale;
+
+  public static <T> T callTracking(StalenessTracker tracker, Supplier<T> call) {
+    final StalenessTracker previous = CURRENT.get();
+    CURRENT.set(tracker);
+    try {
+      return call.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  public static StalenessTracker current() {
+    return CURRENT.get();
+  }
+
+  public static void markStale() {
+    final StalenessTracker tracker = CURRENT.get();
+    if (tracker != null) {
+      tracker.stale = true;
+    }
+  }
+
+  public static void recordAge(Duration age) {
+    final StalenessTracker tracker = CURRENT.get();
+    if (tracker != null) {
+      tracker.oldestAgeNanos.accumulateAndGet(age.toNanos(), Math::max);
+    }
+  }
+
+  public boolean isStale() {
+    return this.stale;
+  }
+
+  public Duration oldestAge() {
+    return Duration.ofNanos(this.oldestAgeNanos.get());
+  }
+}
@@ -1,11 +1,26 @@
 package dev.juliangarcia.similarproducts.application.usecase;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
+import dev.juliangarcia.similarproducts.application.concurrent.FanOutScope;
+import dev.juliangarcia.similarproducts.application.concurrent.RequestDeadline;
 import dev.juliangarcia.similarproducts.application.provider.TaskExecutorProvider;
 import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.entity.SimilarProductsResult;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
 import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,29 +30,150 @@ public class GetSimilarProductsUseCase {
 
   private final TaskExecutorProvider executorProvider;
 
-  public GetSimilarProductsUseCase(ProductRepository productRepository, TaskExecutorProvider executorProvider) {
+  private final Timer similarIdsTimer;
+
+  private final Timer productDetailsTimer;
+
+  private final DistributionSummary fanOutSummary;
+
+  public GetSimilarProductsUseCase(ProductRepository productRepository, TaskExecutorProvider executorProvider,
+      MeterRegistry meterRegistry) {
     this.productRepository = productRepository;
     this.executorProvider = executorProvider;
+    this.similarIdsTimer = this.stageTimer(meterRegistry, "similar_ids");
+    this.productDetailsTimer = this.stageTimer(meterRegistry, "product_details");
+    this.fanOutSummary = DistributionSummary.builder("similar.products.fanout")
+        .description("The number of distinct similar products fetched per request")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
   }
 
   public List<ProductDetails> execute(String productId) {
     final List<String> similarProductIds = this.getDistinctSimilarProductIds(productId);
-    return this.fetchProductDetailsConcurrently(similarProductIds);
+    return this.productDetailsTimer.record(() -> this.fetchProductDetailsConcurrently(similarProductIds));
+  }
+
+  public SimilarProductsResult execute(String productId, Duration latencyBudget) {
+    final long deadline = System.nanoTime() + latencyBudget.toNanos();
+    return RequestDeadline.callUntil(deadline, () -> {
+      final List<String> similarProductIds = this.getDistinctSimilarProductIdsUntil(productId, deadline);
+      return this.productDetailsTimer.record(() -> this.fetchProductDetailsUntil(similarProductIds, deadline));
+    });
+  }
+
+  public List<String> stream(String productId, Duration latencyBudget, boolean ordered,
+      Consumer<ProductDetails> consumer) {
+    final Long deadline = latencyBudget == null ? null : System.nanoTime() + latencyBudget.toNanos();
+    return RequestDeadline.callUntil(deadline, () -> {
+      final List<String> similarProductIds = deadline == null
+          ? this.getDistinctSimilarProductIds(productId)
+          : this.getDistinctSimilarProductIdsUntil(productId, deadline);
+      return this.productDetailsTimer.record(
+          () -> this.streamProductDetails(similarProductIds, deadline, ordered, consumer));
+    });
   }
 
   private List<String> getDistinctSimilarProductIds(final String productId) {
-    final List<String> similarProductIds = this.productRepository.findSimilarProductsById(productId);
-    return similarProductIds.stream().distinct().toList();
+    final List<String> similarProductIds = this.similarIdsTimer.record(
+        () -> this.productRepository.findSimilarProductsById(productId));
+    final List<String> distinctProductIds = similarProductIds.stream().distinct().toList();
+    this.fanOutSummary.record(distinctProductIds.size());
+    return distinctProductIds;
+  }
+
+  private List<String> getDistinctSimilarProductIdsUntil(final String productId, final long deadline) {
+    try (FanOutScope<List<String>> scope = new FanOutScope<>(this.executorProvider.getExecutor())) {
+      scope.fork(() -> this.getDistinctSimilarProductIds(productId));
+      final Future<List<String>> similarProductIds = scope.nextCompleted(deadline);
+      if (similarProductIds == null) {
+        throw new ProductDetailTimeoutException("Latency budget exhausted fetching similar products.");
+      }
+      if (similarProductIds.state() == Future.State.FAILED) {
+        throw similarProductIds.exceptionNow() instanceof RuntimeException ex
+            ? ex
+            : new CompletionException(similarProductIds.exceptionNow());
+      }
+      return similarProductIds.resultNow();
+    }
+  }
+
+  private Timer stageTimer(final MeterRegistry meterRegistry, final String stage) {
+    return Timer.builder("similar.products.stage")
+        .tag("stage", stage)
+        .description("Time spent in each stage of a similar products request")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
   }
 
   private List<ProductDetails> fetchProductDetailsConcurrently(final List<String> similarProductIds) {
-    final List<CompletableFuture<ProductDetails>> futures = similarProductIds
-        .stream()
-        .map(id -> CompletableFuture.supplyAsync(
-            () -> this.productRepository.findProductDetailsById(id), this.executorProvider.getExecutor()))
+    try (FanOutScope<ProductDetails> scope = new FanOutScope<>(this.executorProvider.getExecutor())) {
+      similarProductIds.forEach(id -> scope.fork(() -> this.productRepository.findProductDetailsById(id)));
+      return scope.join();
+    }
+  }
+
+  private List<String> streamProductDetails(final List<String> similarProductIds, final Long deadline,
+      final boolean ordered, final Consumer<ProductDetails> consumer) {
+    final List<Future<ProductDetails>> tasks = new ArrayList<>();
+    final Map<Future<ProductDetails>, Integer> taskIndexes = new IdentityHashMap<>();
+    final BitSet emitted = new BitSet(similarProductIds.size());
+    try (FanOutScope<ProductDetails> scope = new FanOutScope<>(this.executorProvider.getExecutor())) {
+      for (final String id : similarProductIds) {
+        final Future<ProductDetails> task = scope.fork(() -> this.productRepository.findProductDetailsById(id));
+        taskIndexes.put(task, tasks.size());
+        tasks.add(task);
+      }
+
+      int next = 0;
+      Future<ProductDetails> completed;
+      while ((completed = deadline == null ? scope.nextCompleted() : scope.nextCompleted(deadline)) != null) {
+        if (ordered) {
+          for (; next < tasks.size() && tasks.get(next).isDone(); next++) {
+            this.emit(tasks.get(next), next, emitted, consumer);
+          }
+        } else {
+          this.emit(completed, taskIndexes.get(completed), emitted, consumer);
+        }
+      }
+    }
+
+    return IntStream.range(0, similarProductIds.size())
+        .filter(i -> !emitted.get(i))
+        .mapToObj(similarProductIds::get)
         .toList();
+  }
+
+  private void emit(final Future<ProductDetails> task, final int index, final BitSet emitted,
+      final Consumer<ProductDetails> consumer) {
+    if (this.isPresent(task)) {
+      consumer.accept(task.resultNow());
+      emitted.set(index);
+    }
+  }
+
+  private boolean isPresent(final Future<ProductDetails> task) {
+    return task.state() == Future.State.SUCCESS && task.resultNow() != null;
+  }
+
+  private SimilarProductsResult fetchProductDetailsUntil(final List<String> similarProductIds, final long deadline) {
+    final List<Future<ProductDetails>> tasks = new ArrayList<>();
+    try (FanOutScope<ProductDetails> scope = new FanOutScope<>(this.executorProvider.getExecutor())) {
+      similarProductIds.forEach(id -> tasks.add(scope.fork(() -> this.productRepository.findProductDetailsById(id))));
+      scope.joinUntil(deadline);
+    }
+
+    final List<ProductDetails> productDetails = new ArrayList<>();
+    final List<String> omittedProductIds = new ArrayList<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      final Future<ProductDetails> task = tasks.get(i);
+      if (this.isPresent(task)) {
+        productDetails.add(task.resultNow());
+      } else {
+        omittedProductIds.add(similarProductIds.get(i));
+      }
+    }
 
-    return futures.stream().map(CompletableFuture::join).toList();
+    return new SimilarProductsResult(productDetails, omittedProductIds);
   }
 
 }
@@ -0,0 +1,44 @@
+package dev.juliangarcia.similarproducts.application.usecase;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ReactiveProductRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveGetSimilarProductsUseCase {
+
+  private final ReactiveProductRepository productRepository;
+
+  private final int maxConcurrency;
+
+  public ReactiveGetSimilarProductsUseCase(ReactiveProductRepository productRepository, int maxConcurrency) {
+    this.productRepository = productRepository;
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  public Mono<List<ProductDetails>> execute(String productId) {
+    return this.getDistinctSimilarProductIds(productId)
+        .flatMapSequential(this.productRepository::findProductDetailsById, this.maxConcurrency)
+        .collectList();
+  }
+
+  public Flux<ProductDetails> stream(String productId, boolean ordered) {
+    final Flux<String> similarProductIds = this.getDistinctSimilarProductIds(productId);
+    return ordered
+        ? similarProductIds.flatMapSequential(this::findProductDetailsOrSkip, this.maxConcurrency)
+        : similarProductIds.flatMap(this::findProductDetailsOrSkip, this.maxConcurrency);
+  }
+
+  private Mono<ProductDetails> findProductDetailsOrSkip(final String productId) {
+    return this.productRepository.findProductDetailsById(productId)
+        .onErrorResume(ex -> Mono.empty());
+  }
+
+  private Flux<String> getDistinctSimilarProductIds(final String productId) {
+    return this.productRepository.findSimilarProductsById(productId)
+        .flatMapMany(Flux::fromIterable)
+        .distinct();
+  }
+}
@@ -0,0 +1,12 @@
+package dev.juliangarcia.similarproducts.domain.entity;
+
+import java.util.List;
+
+public record SimilarProductsResult(
+    List<ProductDetails> productDetails,
+    List<String> omittedProductIds) {
+
+  public boolean isPartial() {
+    return !this.omittedProductIds.isEmpty();
+  }
+}
@@ -0,0 +1,14 @@
+package dev.juliangarcia.similarproducts.domain.exception;
+
+import java.io.Serial;
+import java.util.concurrent.CancellationException;
+
+public class ProductRequestCancelledException extends CancellationException {
+
+  @Serial
+  private static final long serialVersionUID = 7216945028331652071L;
+
+  public ProductRequestCancelledException(final String message) {
+    super(message);
+  }
+}
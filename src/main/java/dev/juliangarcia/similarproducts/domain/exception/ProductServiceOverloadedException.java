@@ -0,0 +1,13 @@
+package dev.juliangarcia.similarproducts.domain.exception;
+
+import java.io.Serial;
+
+public class ProductServiceOverloadedException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = -4821530279745166131L;
+
+  public ProductServiceOverloadedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,13 @@
+package dev.juliangarcia.similarproducts.domain.repository;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProductRepository {
+
+  Mono<List<String>> findSimilarProductsById(String productId);
+
+  Mono<ProductDetails> findProductDetailsById(String productId);
+}
@@ -0,0 +1,50 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller;
+
+import java.time.Duration;
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.application.usecase.ReactiveGetSimilarProductsUseCase;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.infrastructure.controller.http.HttpCachePolicy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/product")
+@ConditionalOnProperty(name = "similar-products.mode", havingValue = "reactive")
+public class ReactiveSimilarProductsRestController {
+
+  private final ReactiveGetSimilarProductsUseCase getSimilarProductsUseCase;
+
+  private final HttpCachePolicy httpCachePolicy;
+
+  public ReactiveSimilarProductsRestController(ReactiveGetSimilarProductsUseCase getSimilarProductsUseCase,
+      HttpCachePolicy httpCachePolicy) {
+    this.getSimilarProductsUseCase = getSimilarProductsUseCase;
+    this.httpCachePolicy = httpCachePolicy;
+  }
+
+  @GetMapping("/{productId}/similar")
+  public Mono<ResponseEntity<List<ProductDetails>>> getSimilarProducts(@PathVariable final String productId,
+      @RequestHeader final HttpHeaders headers) {
+    return this.getSimilarProductsUseCase.execute(productId)
+        .map(productDetails -> this.httpCachePolicy.cacheable(productDetails, headers.getAccept(), Duration.ZERO));
+  }
+
+  @GetMapping(value = "/{productId}/similar/stream",
+      produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+  public Flux<ProductDetails> streamSimilarProducts(@PathVariable final String productId,
+      @RequestParam(name = "ordered", defaultValue = "false") final boolean ordered) {
+    return this.getSimilarProductsUseCase.stream(productId, ordered);
+  }
+}
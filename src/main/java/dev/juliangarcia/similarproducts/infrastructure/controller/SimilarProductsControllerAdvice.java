@@ -6,6 +6,7 @@ import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionExcept
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +37,11 @@ public class SimilarProductsControllerAdvice {
     return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
   }
 
+  @ExceptionHandler(ProductServiceOverloadedException.class)
+  public ResponseEntity<String> handleProductServiceOverloadedException(ProductServiceOverloadedException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+  }
+
   @ExceptionHandler(CompletionException.class)
   public ResponseEntity<String> handleCompletionException(CompletionException ex) {
     final Throwable cause = ex.getCause();
@@ -56,6 +62,10 @@ public class SimilarProductsControllerAdvice {
       return this.handleProductConnectionException(productConnectionException);
     }
 
+    if (cause instanceof ProductServiceOverloadedException productServiceOverloadedException) {
+      return this.handleProductServiceOverloadedException(productServiceOverloadedException);
+    }
+
     return this.handleGenericException(ex);
   }
 
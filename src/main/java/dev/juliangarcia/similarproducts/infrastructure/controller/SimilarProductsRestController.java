@@ -1,35 +1,130 @@
 package dev.juliangarcia.similarproducts.infrastructure.controller;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.juliangarcia.similarproducts.application.concurrent.StalenessTracker;
 import dev.juliangarcia.similarproducts.application.usecase.GetSimilarProductsUseCase;
 import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
-import dev.juliangarcia.similarproducts.infrastructure.controller.dto.ProductDetailDto;
-import dev.juliangarcia.similarproducts.infrastructure.controller.mapper.ProductDetailDtoMapper;
+import dev.juliangarcia.similarproducts.domain.entity.SimilarProductsResult;
+import dev.juliangarcia.similarproducts.infrastructure.controller.config.SimilarProductsProperties;
+import dev.juliangarcia.similarproducts.infrastructure.controller.http.HttpCachePolicy;
+import dev.juliangarcia.similarproducts.infrastructure.controller.stream.ProductDetailsStreamWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @RestController
 @RequestMapping("/product")
+@ConditionalOnProperty(name = "similar-products.mode", havingValue = "blocking", matchIfMissing = true)
 public class SimilarProductsRestController {
 
+  public static final String LATENCY_BUDGET_HEADER = "X-Latency-Budget";
+
+  public static final String OMITTED_PRODUCTS_HEADER = "X-Omitted-Products";
+
+  public static final String STALE_HEADER = "X-Stale";
+
   private final GetSimilarProductsUseCase getSimilarProductsUseCase;
 
-  private final ProductDetailDtoMapper mapper;
+  private final SimilarProductsProperties properties;
+
+  private final ObjectMapper objectMapper;
+
+  private final HttpCachePolicy httpCachePolicy;
+
+  private final Timer handlerTimer;
 
   public SimilarProductsRestController(GetSimilarProductsUseCase getSimilarProductsUseCase,
-      ProductDetailDtoMapper mapper) {
+      SimilarProductsProperties properties, ObjectMapper objectMapper, HttpCachePolicy httpCachePolicy,
+      MeterRegistry meterRegistry) {
     this.getSimilarProductsUseCase = getSimilarProductsUseCase;
-    this.mapper = mapper;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.httpCachePolicy = httpCachePolicy;
+    this.handlerTimer = Timer.builder("similar.products.handler")
+        .description("Time spent in the similar products handler, excluding response serialization")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
   }
 
   @GetMapping("/{productId}/similar")
-  public ResponseEntity<List<ProductDetailDto>> getSimilarProducts(@PathVariable final String productId) {
-    final List<ProductDetails> productDetailsList = this.getSimilarProductsUseCase.execute(productId);
-    final List<ProductDetailDto> result = this.mapper.toDto(productDetailsList);
-    return ResponseEntity.ok(result);
+  public ResponseEntity<List<ProductDetails>> getSimilarProducts(@PathVariable final String productId,
+      @RequestHeader(name = LATENCY_BUDGET_HEADER, required = false) final Long latencyBudgetMillis,
+      @RequestHeader final HttpHeaders headers) {
+    return this.handlerTimer.record(() -> this.handleSimilarProducts(productId, latencyBudgetMillis,
+        headers.getAccept()));
+  }
+
+  @GetMapping(value = "/{productId}/similar/stream",
+      produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+  public void streamSimilarProducts(@PathVariable final String productId,
+      @RequestParam(name = "ordered", defaultValue = "false") final boolean ordered,
+      @RequestHeader(name = LATENCY_BUDGET_HEADER, required = false) final Long latencyBudgetMillis,
+      @RequestHeader(name = HttpHeaders.ACCEPT, required = false) final String accept,
+      final HttpServletResponse response) {
+    final boolean serverSentEvents = accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    final ProductDetailsStreamWriter writer = new ProductDetailsStreamWriter(this.objectMapper, response,
+        serverSentEvents);
+    try {
+      final List<String> omittedProductIds = this.getSimilarProductsUseCase.stream(productId,
+          this.latencyBudget(latencyBudgetMillis), ordered, writer::write);
+      writer.complete(omittedProductIds);
+    } catch (final UncheckedIOException ex) {
+      log.debug("Client went away while streaming similar products for productId {}.", productId, ex);
+    }
+  }
+
+  private Duration latencyBudget(final Long latencyBudgetMillis) {
+    return latencyBudgetMillis != null
+        ? Duration.ofMillis(latencyBudgetMillis)
+        : this.properties.getLatencyBudget();
+  }
+
+  private ResponseEntity<List<ProductDetails>> handleSimilarProducts(final String productId,
+      final Long latencyBudgetMillis, final List<MediaType> acceptedMediaTypes) {
+    final Duration latencyBudget = this.latencyBudget(latencyBudgetMillis);
+    final StalenessTracker stalenessTracker = new StalenessTracker();
+
+    if (latencyBudget == null) {
+      final List<ProductDetails> productDetails = StalenessTracker.callTracking(stalenessTracker,
+          () -> this.getSimilarProductsUseCase.execute(productId));
+      return this.complete(productDetails, acceptedMediaTypes, stalenessTracker);
+    }
+
+    final SimilarProductsResult similarProducts = StalenessTracker.callTracking(stalenessTracker,
+        () -> this.getSimilarProductsUseCase.execute(productId, latencyBudget));
+    if (!similarProducts.isPartial()) {
+      return this.complete(similarProducts.productDetails(), acceptedMediaTypes, stalenessTracker);
+    }
+    return this.uncacheable(stalenessTracker)
+        .header(OMITTED_PRODUCTS_HEADER, String.join(",", similarProducts.omittedProductIds()))
+        .body(similarProducts.productDetails());
+  }
+
+  private ResponseEntity<List<ProductDetails>> complete(final List<ProductDetails> productDetails,
+      final List<MediaType> acceptedMediaTypes, final StalenessTracker stalenessTracker) {
+    return stalenessTracker.isStale()
+        ? this.uncacheable(stalenessTracker).body(productDetails)
+        : this.httpCachePolicy.cacheable(productDetails, acceptedMediaTypes, stalenessTracker.oldestAge());
+  }
+
+  private ResponseEntity.BodyBuilder uncacheable(final StalenessTracker stalenessTracker) {
+    final ResponseEntity.BodyBuilder response = this.httpCachePolicy.uncacheable();
+    return stalenessTracker.isStale() ? response.header(STALE_HEADER, "true") : response;
   }
 }
@@ -0,0 +1,55 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.admission;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+  public static final String PRIORITY_HEADER = "X-Request-Priority";
+
+  private static final Pattern SIMILAR_PRODUCTS_PATH = Pattern.compile("^/product/[^/]+/similar(/stream)?$");
+
+  private final AdmissionController admissionController;
+
+  private final String retryAfterSeconds;
+
+  public AdmissionControlFilter(AdmissionController admissionController, Duration retryAfter) {
+    this.admissionController = admissionController;
+    this.retryAfterSeconds = String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+  }
+
+  @Override
+  protected boolean shouldNotFilter(final HttpServletRequest request) {
+    final String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !SIMILAR_PRODUCTS_PATH.matcher(path).matches();
+  }
+
+  @Override
+  protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+      final FilterChain filterChain) throws ServletException, IOException {
+    final RequestPriority priority = RequestPriority.fromHeader(request.getHeader(PRIORITY_HEADER));
+    if (!this.admissionController.tryAcquire(priority)) {
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, this.retryAfterSeconds);
+      response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+      response.getWriter().write("Service overloaded, retry later.");
+      return;
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      this.admissionController.release();
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.admission;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import dev.juliangarcia.similarproducts.infrastructure.controller.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class AdmissionController {
+
+  private static final Comparator<Waiter> SERVICE_ORDER = Comparator
+      .comparing((Waiter waiter) -> waiter.priority)
+      .thenComparingLong(waiter -> waiter.sequence);
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final PriorityQueue<Waiter> queue = new PriorityQueue<>(SERVICE_ORDER);
+
+  private final int maxConcurrent;
+
+  private final int maxQueueSize;
+
+  private final Map<RequestPriority, Long> queueWaitNanos = new EnumMap<>(RequestPriority.class);
+
+  private final Map<RequestPriority, Counter> rejectedCounters = new EnumMap<>(RequestPriority.class);
+
+  private final Timer queueWaitTimer;
+
+  private int inFlight;
+
+  private long sequence;
+
+  public AdmissionController(AdmissionProperties properties, MeterRegistry meterRegistry) {
+    this.maxConcurrent = properties.getMaxConcurrent();
+    this.maxQueueSize = properties.getMaxQueueSize();
+    this.queueWaitNanos.put(RequestPriority.CRITICAL, properties.getCriticalQueueWait().toNanos());
+    this.queueWaitNanos.put(RequestPriority.NORMAL, properties.getNormalQueueWait().toNanos());
+    this.queueWaitNanos.put(RequestPriority.LOW, properties.getLowQueueWait().toNanos());
+    for (final RequestPriority priority : RequestPriority.values()) {
+      this.rejectedCounters.put(priority, Counter.builder("admission.rejected")
+          .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+          .description("The number of requests rejected by the admission controller")
+          .register(meterRegistry));
+    }
+    this.queueWaitTimer = Timer.builder("admission.queue.wait")
+        .description("Time requests spent waiting for admission")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    Gauge.builder("admission.in.flight", this, AdmissionController::getInFlight)
+        .description("The number of admitted requests in progress")
+        .register(meterRegistry);
+    Gauge.builder("admission.queued", this, AdmissionController::getQueued)
+        .description("The number of requests waiting for admission")
+        .register(meterRegistry);
+  }
+
+  public boolean tryAcquire(RequestPriority priority) {
+    this.lock.lock();
+    try {
+      if (this.inFlight < this.maxConcurrent && this.queue.isEmpty()) {
+        this.inFlight++;
+        return true;
+      }
+      if (this.queueWaitNanos.get(priority) <= 0 || !this.makeRoomFor(priority)) {
+        return this.reject(priority);
+      }
+      return this.awaitAdmission(new Waiter(priority, this.sequence++, this.lock.newCondition()));
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public void release() {
+    this.lock.lock();
+    try {
+      this.inFlight--;
+      this.admitWaiters();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    this.lock.lock();
+    try {
+      return this.inFlight;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public int getQueued() {
+    this.lock.lock();
+    try {
+      return this.queue.size();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private boolean awaitAdmission(final Waiter waiter) {
+    this.queue.add(waiter);
+    final long start = System.nanoTime();
+    long remaining = this.queueWaitNanos.get(waiter.priority);
+    try {
+      while (!waiter.admitted) {
+        if (waiter.evicted || remaining <= 0) {
+          this.queue.remove(waiter);
+          return this.reject(waiter.priority);
+        }
+        remaining = waiter.condition.awaitNanos(remaining);
+      }
+      return true;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      if (waiter.admitted) {
+        this.inFlight--;
+        this.admitWaiters();
+      } else {
+        this.queue.remove(waiter);
+      }
+      return false;
+    } finally {
+      this.queueWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private boolean makeRoomFor(final RequestPriority priority) {
+    if (this.queue.size() < this.maxQueueSize) {
+      return true;
+    }
+    final Waiter last = this.queue.stream().max(SERVICE_ORDER).orElseThrow();
+    if (last.priority.compareTo(priority) <= 0) {
+      return false;
+    }
+    this.queue.remove(last);
+    last.evicted = true;
+    last.condition.signal();
+    return true;
+  }
+
+  private void admitWaiters() {
+    while (this.inFlight < this.maxConcurrent && !this.queue.isEmpty()) {
+      final Waiter waiter = this.queue.poll();
+      waiter.admitted = true;
+      this.inFlight++;
+      waiter.condition.signal();
+    }
+  }
+
+  private boolean reject(final RequestPriority priority) {
+    this.rejectedCounters.get(priority).increment();
+    return false;
+  }
+
+  private static final class Waiter {
+
+    private final RequestPriority priority;
+
+    private final long sequence;
+
+    private final Condition condition;
+
+    private boolean admitted;
+
+    private boolean evicted;
+
+    private Waiter(final RequestPriority priority, final long sequence, final Condition condition) {
+      this.priority = priority;
+      this.sequence = sequence;
+      this.condition = condition;
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.admission;
+
+import java.util.Locale;
+
+public enum RequestPriority {
+  CRITICAL,
+  NORMAL,
+  LOW;
+
+  public static RequestPriority fromHeader(String value) {
+    if (value == null || value.isBlank()) {
+      return NORMAL;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException ex) {
+      return NORMAL;
+    }
+  }
+}
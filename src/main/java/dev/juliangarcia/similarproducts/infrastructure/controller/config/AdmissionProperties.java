@@ -0,0 +1,26 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.config;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+  private boolean enabled = true;
+
+  private int maxConcurrent = 256;
+
+  private int maxQueueSize = 512;
+
+  private Duration criticalQueueWait = Duration.ofSeconds(1);
+
+  private Duration normalQueueWait = Duration.ofMillis(250);
+
+  private Duration lowQueueWait = Duration.ZERO;
+
+  private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,63 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.config;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.juliangarcia.similarproducts.application.usecase.ReactiveGetSimilarProductsUseCase;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ReactiveProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.controller.admission.AdmissionControlFilter;
+import dev.juliangarcia.similarproducts.infrastructure.controller.admission.AdmissionController;
+import dev.juliangarcia.similarproducts.infrastructure.controller.http.HttpCachePolicy;
+import dev.juliangarcia.similarproducts.infrastructure.controller.json.ProductDetailsSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+@EnableConfigurationProperties({SimilarProductsProperties.class, AdmissionProperties.class})
+public class ControllerConfig {
+
+  @Bean
+  public SimpleModule productDetailsSerializationModule() {
+    return new SimpleModule("productDetailsSerialization")
+        .addSerializer(ProductDetails.class, new ProductDetailsSerializer());
+  }
+
+  @Bean
+  public HttpCachePolicy httpCachePolicy(SimilarProductsProperties properties) {
+    return new HttpCachePolicy(properties.getHttpCache());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "similar-products.mode", havingValue = "reactive")
+  public ReactiveGetSimilarProductsUseCase reactiveGetSimilarProductsUseCase(
+      ReactiveProductRepository reactiveProductRepository, SimilarProductsProperties properties) {
+    return new ReactiveGetSimilarProductsUseCase(reactiveProductRepository,
+        properties.getReactive().getMaxConcurrency());
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder objectMapperBuilder) {
+    return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  @ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+  public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionProperties properties,
+      MeterRegistry meterRegistry) {
+    final AdmissionController admissionController = new AdmissionController(properties, meterRegistry);
+    final FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+        new AdmissionControlFilter(admissionController, properties.getRetryAfter()));
+    registration.addUrlPatterns("/product/*");
+    return registration;
+  }
+}
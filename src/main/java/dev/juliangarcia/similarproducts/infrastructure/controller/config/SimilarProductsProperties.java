@@ -0,0 +1,34 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.config;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "similar-products")
+public class SimilarProductsProperties {
+  private Duration latencyBudget;
+
+  private HttpCache httpCache = new HttpCache();
+
+  private Reactive reactive = new Reactive();
+
+  @Getter
+  @Setter
+  public static class HttpCache {
+    private boolean enabled = true;
+
+    private Duration maxAge = Duration.ofSeconds(30);
+
+    private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+  }
+
+  @Getter
+  @Setter
+  public static class Reactive {
+    private int maxConcurrency = 32;
+  }
+}
@@ -0,0 +1,93 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.infrastructure.controller.config.SimilarProductsProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+
+public class HttpCachePolicy {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private static final int NULL_LENGTH = -1;
+
+  private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+  private final boolean enabled;
+
+  private final CacheControl cacheControl;
+
+  public HttpCachePolicy(SimilarProductsProperties.HttpCache properties) {
+    this.enabled = properties.isEnabled();
+    this.cacheControl = CacheControl.maxAge(properties.getMaxAge())
+        .staleWhileRevalidate(properties.getStaleWhileRevalidate());
+  }
+
+  public ResponseEntity<List<ProductDetails>> cacheable(List<ProductDetails> productDetails,
+      List<MediaType> acceptedMediaTypes, Duration age) {
+    if (!this.enabled) {
+      return ResponseEntity.ok(productDetails);
+    }
+    return ResponseEntity.ok()
+        .eTag(this.eTag(productDetails, this.representation(acceptedMediaTypes)))
+        .cacheControl(this.cacheControl)
+        .header(HttpHeaders.AGE, String.valueOf(age.toSeconds()))
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(productDetails);
+  }
+
+  public ResponseEntity.BodyBuilder uncacheable() {
+    return this.enabled
+        ? ResponseEntity.ok().cacheControl(CacheControl.noStore())
+        : ResponseEntity.ok();
+  }
+
+  MediaType representation(final List<MediaType> acceptedMediaTypes) {
+    final List<MediaType> mediaTypes = new ArrayList<>(acceptedMediaTypes);
+    MimeTypeUtils.sortBySpecificity(mediaTypes);
+    for (final MediaType mediaType : mediaTypes) {
+      if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+        return MediaType.APPLICATION_JSON;
+      }
+      if (mediaType.includes(SMILE)) {
+        return SMILE;
+      }
+    }
+    return MediaType.APPLICATION_JSON;
+  }
+
+  String eTag(final List<ProductDetails> productDetails, final MediaType mediaType) {
+    long hash = this.hash(FNV_OFFSET_BASIS, mediaType.toString());
+    for (final ProductDetails product : productDetails) {
+      hash = this.hash(hash, product.getProductId());
+      hash = this.hash(hash, product.getName());
+      hash = this.hash(hash, Double.doubleToLongBits(product.getPrice()));
+      hash = this.hash(hash, product.isAvailability() ? 1 : 0);
+    }
+    return "\"" + Long.toHexString(hash) + "\"";
+  }
+
+  private long hash(final long hash, final String value) {
+    if (value == null) {
+      return this.hash(hash, NULL_LENGTH);
+    }
+    long result = this.hash(hash, value.length());
+    for (int i = 0; i < value.length(); i++) {
+      result = this.hash(result, value.charAt(i));
+    }
+    return result;
+  }
+
+  private long hash(final long hash, final long value) {
+    return (hash ^ value) * FNV_PRIME;
+  }
+}
@@ -0,0 +1,44 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.json;
+
+import java.io.IOException;
+import java.io.Serial;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+
+public class ProductDetailsSerializer extends StdSerializer<ProductDetails> {
+
+  @Serial
+  private static final long serialVersionUID = 1558210862045972812L;
+
+  private static final SerializableString ID = new SerializedString("id");
+
+  private static final SerializableString NAME = new SerializedString("name");
+
+  private static final SerializableString PRICE = new SerializedString("price");
+
+  private static final SerializableString AVAILABILITY = new SerializedString("availability");
+
+  public ProductDetailsSerializer() {
+    super(ProductDetails.class);
+  }
+
+  @Override
+  public void serialize(ProductDetails productDetails, JsonGenerator generator, SerializerProvider provider)
+      throws IOException {
+    generator.writeStartObject(productDetails);
+    generator.writeFieldName(ID);
+    generator.writeString(productDetails.getProductId());
+    generator.writeFieldName(NAME);
+    generator.writeString(productDetails.getName());
+    generator.writeFieldName(PRICE);
+    generator.writeNumber(productDetails.getPrice());
+    generator.writeFieldName(AVAILABILITY);
+    generator.writeBoolean(productDetails.isAvailability());
+    generator.writeEndObject();
+  }
+}
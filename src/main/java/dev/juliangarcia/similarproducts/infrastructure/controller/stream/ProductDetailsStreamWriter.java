@@ -0,0 +1,77 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+public class ProductDetailsStreamWriter {
+
+  private final ObjectWriter writer;
+
+  private final HttpServletResponse response;
+
+  private final boolean serverSentEvents;
+
+  private JsonGenerator generator;
+
+  public ProductDetailsStreamWriter(ObjectMapper objectMapper, HttpServletResponse response,
+      boolean serverSentEvents) {
+    this.writer = objectMapper.writer().withRootValueSeparator("");
+    this.response = response;
+    this.serverSentEvents = serverSentEvents;
+  }
+
+  public void write(ProductDetails productDetails) {
+    try {
+      final JsonGenerator jsonGenerator = this.start();
+      if (this.serverSentEvents) {
+        jsonGenerator.writeRaw("data:");
+        this.writer.writeValue(jsonGenerator, productDetails);
+        jsonGenerator.writeRaw("\n\n");
+      } else {
+        this.writer.writeValue(jsonGenerator, productDetails);
+        jsonGenerator.writeRaw('\n');
+      }
+      jsonGenerator.flush();
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  public void complete(List<String> omittedProductIds) {
+    try {
+      final JsonGenerator jsonGenerator = this.start();
+      if (this.serverSentEvents && !omittedProductIds.isEmpty()) {
+        jsonGenerator.writeRaw("event:omitted\ndata:");
+        this.writer.writeValue(jsonGenerator, omittedProductIds);
+        jsonGenerator.writeRaw("\n\n");
+      }
+      jsonGenerator.close();
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private JsonGenerator start() throws IOException {
+    if (this.generator == null) {
+      this.response.setStatus(HttpServletResponse.SC_OK);
+      this.response.setContentType(this.serverSentEvents
+          ? MediaType.TEXT_EVENT_STREAM_VALUE
+          : MediaType.APPLICATION_NDJSON_VALUE);
+      this.response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+      this.response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+      this.generator = this.writer.createGenerator(this.response.getOutputStream())
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+    return this.generator;
+  }
+}
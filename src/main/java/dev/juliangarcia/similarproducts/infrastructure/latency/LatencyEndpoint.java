@@ -0,0 +1,72 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+  private final LatencyRecorders recorders;
+
+  public LatencyEndpoint(LatencyRecorders recorders) {
+    this.recorders = recorders;
+  }
+
+  @ReadOperation
+  public Map<String, Object> latencies() {
+    final Map<String, Object> latencies = new LinkedHashMap<>();
+    for (final LatencyRecorder recorder : this.recorders.getRecorders()) {
+      latencies.put(recorder.getName(), Map.of(
+          "interval", this.summary(recorder.getLastInterval()),
+          "cumulative", this.summary(recorder.getCumulative())));
+    }
+    return latencies;
+  }
+
+  @ReadOperation
+  public Map<String, Object> latency(@Selector final String name) {
+    final LatencyRecorder recorder = this.recorders.find(name);
+    if (recorder == null) {
+      return null;
+    }
+    final Histogram interval = recorder.getLastInterval();
+    final Histogram cumulative = recorder.getCumulative();
+    final Map<String, Object> latency = new LinkedHashMap<>();
+    latency.put("interval", this.summary(interval));
+    latency.put("cumulative", this.summary(cumulative));
+    latency.put("intervalHistogram", this.encode(interval));
+    latency.put("cumulativeHistogram", this.encode(cumulative));
+    return latency;
+  }
+
+  private Map<String, Object> summary(final Histogram histogram) {
+    final Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("count", histogram.getTotalCount());
+    summary.put("meanMs", histogram.getMean() / 1e3);
+    for (final double percentile : PERCENTILES) {
+      summary.put("p" + this.label(percentile) + "Ms", histogram.getValueAtPercentile(percentile) / 1e3);
+    }
+    summary.put("maxMs", histogram.getMaxValue() / 1e3);
+    return summary;
+  }
+
+  private String encode(final Histogram histogram) {
+    final ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+    final int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+    return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+  }
+
+  private String label(final double percentile) {
+    return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+  }
+}
@@ -0,0 +1,66 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency;
+
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+public class LatencyRecorder {
+
+  private final String name;
+
+  private final long highestTrackableMicros;
+
+  private final long expectedIntervalMicros;
+
+  private final Recorder recorder;
+
+  private final Histogram cumulative;
+
+  private Histogram lastInterval;
+
+  private Histogram recycled;
+
+  public LatencyRecorder(String name, long highestTrackableMicros, int significantDigits,
+      long expectedIntervalMicros) {
+    this.name = name;
+    this.highestTrackableMicros = highestTrackableMicros;
+    this.expectedIntervalMicros = expectedIntervalMicros;
+    this.recorder = new Recorder(highestTrackableMicros, significantDigits);
+    this.cumulative = new Histogram(highestTrackableMicros, significantDigits);
+    this.cumulative.setTag(name);
+    this.lastInterval = this.recorder.getIntervalHistogram();
+    this.lastInterval.setTag(name);
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void record(long elapsedNanos) {
+    final long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 0),
+        this.highestTrackableMicros);
+    if (this.expectedIntervalMicros > 0) {
+      this.recorder.recordValueWithExpectedInterval(micros, this.expectedIntervalMicros);
+    } else {
+      this.recorder.recordValue(micros);
+    }
+  }
+
+  public synchronized Histogram sample() {
+    final Histogram interval = this.recorder.getIntervalHistogram(this.recycled);
+    interval.setTag(this.name);
+    this.cumulative.add(interval);
+    this.recycled = this.lastInterval;
+    this.lastInterval = interval;
+    return interval;
+  }
+
+  public synchronized Histogram getLastInterval() {
+    return this.lastInterval.copy();
+  }
+
+  public synchronized Histogram getCumulative() {
+    return this.cumulative.copy();
+  }
+}
@@ -0,0 +1,100 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import dev.juliangarcia.similarproducts.infrastructure.latency.config.LatencyRecorderProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+@Slf4j
+public class LatencyRecorders implements AutoCloseable {
+
+  private static final double MICROS_PER_MILLI = 1_000.0;
+
+  private final Map<String, LatencyRecorder> recorders = new ConcurrentSkipListMap<>();
+
+  private final LatencyRecorderProperties properties;
+
+  private ScheduledExecutorService sampler;
+
+  private HistogramLogWriter logWriter;
+
+  private long logBaseTime;
+
+  public LatencyRecorders(LatencyRecorderProperties properties) {
+    this.properties = properties;
+  }
+
+  public LatencyRecorder recorder(String name) {
+    return this.recorders.computeIfAbsent(name, key -> new LatencyRecorder(key,
+        TimeUnit.NANOSECONDS.toMicros(this.properties.getHighestTrackableValue().toNanos()),
+        this.properties.getSignificantDigits(),
+        TimeUnit.NANOSECONDS.toMicros(this.properties.getExpectedInterval().toNanos())));
+  }
+
+  public LatencyRecorder find(String name) {
+    return this.recorders.get(name);
+  }
+
+  public Collection<LatencyRecorder> getRecorders() {
+    return this.recorders.values();
+  }
+
+  public synchronized void start() throws IOException {
+    final Path logFile = this.properties.getLogFile();
+    if (logFile != null) {
+      if (logFile.getParent() != null) {
+        Files.createDirectories(logFile.getParent());
+      }
+      this.logBaseTime = System.currentTimeMillis();
+      this.logWriter = new HistogramLogWriter(new PrintStream(Files.newOutputStream(logFile), false));
+      this.logWriter.outputLogFormatVersion();
+      this.logWriter.outputStartTime(this.logBaseTime);
+      this.logWriter.setBaseTime(this.logBaseTime);
+      this.logWriter.outputLegend();
+    }
+
+    final long intervalMillis = this.properties.getInterval().toMillis();
+    this.sampler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("latency-recorder").daemon().factory());
+    this.sampler.scheduleAtFixedRate(this::sample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (this.sampler != null) {
+      this.sampler.shutdownNow();
+      this.sampler = null;
+    }
+    this.sample();
+    if (this.logWriter != null) {
+      this.logWriter.close();
+      this.logWriter = null;
+    }
+  }
+
+  synchronized void sample() {
+    try {
+      for (final LatencyRecorder recorder : this.recorders.values()) {
+        final Histogram interval = recorder.sample();
+        if (this.logWriter != null) {
+          final long startTime = Math.max(interval.getStartTimeStamp(), this.logBaseTime);
+          this.logWriter.outputIntervalHistogram((startTime - this.logBaseTime) / 1_000.0,
+              (interval.getEndTimeStamp() - this.logBaseTime) / 1_000.0, interval, MICROS_PER_MILLI);
+        }
+      }
+    } catch (final RuntimeException ex) {
+      log.warn("Failed to sample latency histograms.", ex);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class LatencyRecordingFilter extends OncePerRequestFilter {
+
+  private static final Pattern SIMILAR_PRODUCTS_PATH = Pattern.compile("^/product/[^/]+/similar(/stream)?$");
+
+  private final LatencyRecorder recorder;
+
+  public LatencyRecordingFilter(LatencyRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(final HttpServletRequest request) {
+    final String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !SIMILAR_PRODUCTS_PATH.matcher(path).matches();
+  }
+
+  @Override
+  protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+      final FilterChain filterChain) throws ServletException, IOException {
+    final long start = System.nanoTime();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      this.recorder.record(System.nanoTime() - start);
+    }
+  }
+}
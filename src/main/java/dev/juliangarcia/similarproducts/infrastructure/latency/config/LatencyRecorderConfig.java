@@ -0,0 +1,40 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency.config;
+
+import dev.juliangarcia.similarproducts.infrastructure.latency.LatencyEndpoint;
+import dev.juliangarcia.similarproducts.infrastructure.latency.LatencyRecorders;
+import dev.juliangarcia.similarproducts.infrastructure.latency.LatencyRecordingFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(LatencyRecorderProperties.class)
+@ConditionalOnProperty(name = "latency-recorder.enabled", havingValue = "true", matchIfMissing = true)
+public class LatencyRecorderConfig {
+
+  public static final String SIMILAR_PRODUCTS_REQUEST = "similar.products.request";
+
+  @Bean(initMethod = "start", destroyMethod = "close")
+  public LatencyRecorders latencyRecorders(LatencyRecorderProperties properties) {
+    return new LatencyRecorders(properties);
+  }
+
+  @Bean
+  public LatencyEndpoint latencyEndpoint(LatencyRecorders latencyRecorders) {
+    return new LatencyEndpoint(latencyRecorders);
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  public FilterRegistrationBean<LatencyRecordingFilter> latencyRecordingFilter(LatencyRecorders latencyRecorders) {
+    final FilterRegistrationBean<LatencyRecordingFilter> registration = new FilterRegistrationBean<>(
+        new LatencyRecordingFilter(latencyRecorders.recorder(SIMILAR_PRODUCTS_REQUEST)));
+    registration.addUrlPatterns("/product/*");
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+}
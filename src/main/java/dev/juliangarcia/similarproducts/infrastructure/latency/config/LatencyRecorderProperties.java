@@ -0,0 +1,25 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "latency-recorder")
+public class LatencyRecorderProperties {
+  private boolean enabled = true;
+
+  private Duration highestTrackableValue = Duration.ofMinutes(1);
+
+  private int significantDigits = 3;
+
+  private Duration interval = Duration.ofSeconds(10);
+
+  private Duration expectedInterval = Duration.ZERO;
+
+  private Path logFile;
+}
@@ -1,45 +1,72 @@
 package dev.juliangarcia.similarproducts.infrastructure.repository;
 
+import java.io.Serial;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import dev.juliangarcia.similarproducts.application.provider.TaskExecutorProvider;
 import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
 import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
 import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
-import dev.juliangarcia.similarproducts.infrastructure.repository.entity.ProductDetailsEntity;
+import dev.juliangarcia.similarproducts.infrastructure.repository.batch.MicroBatcher;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.RestClientProperties;
 import dev.juliangarcia.similarproducts.infrastructure.repository.entity.SimilarProductsEntity;
 import dev.juliangarcia.similarproducts.infrastructure.repository.mapper.RepositoryEntityMapper;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.HedgingPolicy;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
 import io.netty.handler.timeout.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
 @Slf4j
 @Repository
 public class ProductAdapter implements ProductRepository {
 
+  private static final Set<Integer> BULK_NOT_SUPPORTED_STATUSES = Set.of(404, 405, 501);
+
   private final WebClient webClient;
 
+  private final WebClient similarIdsWebClient;
+
   private final RepositoryEntityMapper mapper;
 
-  public ProductAdapter(WebClient webClient, RepositoryEntityMapper mapper) {
+  private final RestClientProperties.Bulk bulkProperties;
+
+  private final MicroBatcher<String, ProductDetails> productDetailsBatcher;
+
+  private final HedgingPolicy hedgingPolicy;
+
+  private volatile boolean bulkSupported = true;
+
+  public ProductAdapter(@Qualifier("productRestClient") WebClient webClient,
+      @Qualifier("similarIdsRestClient") WebClient similarIdsWebClient, RepositoryEntityMapper mapper,
+      RestClientProperties properties, TaskExecutorProvider executorProvider, HedgingPolicy hedgingPolicy) {
     this.webClient = webClient;
+    this.similarIdsWebClient = similarIdsWebClient;
     this.mapper = mapper;
+    this.hedgingPolicy = hedgingPolicy;
+    this.bulkProperties = properties.getBulk();
+    this.productDetailsBatcher = new MicroBatcher<>(this.bulkProperties.getWindow(),
+        this.bulkProperties.getMaxBatchSize(), this::requestProductDetailsInBulk, ProductDetailNotFoundException::new,
+        executorProvider.getExecutor());
   }
 
   @CircuitBreaker(name = "similarProducts")
-  @Retry(name = "similarProductsRetry")
   @Override
   public List<String> findSimilarProductsById(String productId) {
     try {
-      return this.webClient.get()
+      return this.similarIdsWebClient.get()
           .uri("/product/{id}/similarids", productId)
           .retrieve()
           .bodyToMono(SimilarProductsEntity.class)
@@ -56,26 +83,76 @@ public class ProductAdapter implements ProductRepository {
   }
 
   @CircuitBreaker(name = "productDetails")
-  @Retry(name = "productDetailsRetry")
   @Override
   public ProductDetails findProductDetailsById(String productId) {
+    if (this.bulkProperties.isEnabled() && this.bulkSupported) {
+      try {
+        return this.productDetailsBatcher.get(productId);
+      } catch (final BulkNotSupportedException ex) {
+        log.debug("Fetching productId {} with a single call, the bulk endpoint is not available.", productId);
+      }
+    }
+    final Mono<ProductDetails> request = this.hedgingPolicy.hedge(() -> this.requestProductDetails(productId));
+    return this.awaitProductDetails(request, productId);
+  }
+
+  private Mono<ProductDetails> requestProductDetails(final String productId) {
+    return this.webClient.get()
+        .uri("/product/{id}", productId)
+        .retrieve()
+        .onStatus(status -> status.value() == 404,
+            clientResponse -> Mono.error(new ProductDetailNotFoundException()))
+        .onStatus(HttpStatusCode::is5xxServerError,
+            clientResponse -> Mono.error(new ProductDetailErrorException()))
+        .bodyToMono(ProductDetails.class);
+  }
+
+  private Map<String, ProductDetails> requestProductDetailsInBulk(final List<String> productIds) {
+    return this.awaitProductDetails(this.webClient.get()
+        .uri(this.bulkProperties.getPath() + "?ids={ids}", String.join(",", productIds))
+        .retrieve()
+        .onStatus(status -> BULK_NOT_SUPPORTED_STATUSES.contains(status.value()),
+            clientResponse -> Mono.error(this.disableBulk(clientResponse.statusCode())))
+        .onStatus(HttpStatusCode::is5xxServerError,
+            clientResponse -> Mono.error(new ProductDetailErrorException()))
+        .bodyToFlux(ProductDetails.class)
+        .collectMap(ProductDetails::getProductId), productIds);
+  }
+
+  private BulkNotSupportedException disableBulk(final HttpStatusCode status) {
+    if (this.bulkSupported) {
+      this.bulkSupported = false;
+      log.warn("Bulk endpoint {} answered {}, falling back to single-product calls.", this.bulkProperties.getPath(),
+          status.value());
+    }
+    return new BulkNotSupportedException();
+  }
+
+  private <T> T awaitProductDetails(final Mono<T> request, final Object productId) {
     try {
-      return this.webClient.get()
-          .uri("/product/{id}", productId)
-          .retrieve()
-          .onStatus(status -> status.value() == 404,
-              clientResponse -> Mono.error(new ProductDetailNotFoundException()))
-          .onStatus(HttpStatusCode::is5xxServerError,
-              clientResponse -> Mono.error(new ProductDetailErrorException()))
-          .bodyToMono(ProductDetailsEntity.class)
-          .map(this.mapper::toDomain)
-          .block();
+      return request.block();
     } catch (final TimeoutException ex) {
       log.error("Timeout error fetching product details for productId {}.", productId, ex);
       throw new ProductDetailTimeoutException("Timeout error fetching product details.");
     } catch (final WebClientRequestException ex) {
       log.error("Connection error fetching product details for productId {}.", productId, ex);
       throw new ProductConnectionException("Error fetching product details.");
+    } catch (final RuntimeException ex) {
+      if (Exceptions.unwrap(ex) instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+        throw new ProductRequestCancelledException("Product details request was cancelled.");
+      }
+      throw ex;
+    }
+  }
+
+  private static final class BulkNotSupportedException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -3719120588731165402L;
+
+    private BulkNotSupportedException() {
+      super(null, null, false, false);
     }
   }
 }
@@ -0,0 +1,84 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.repository.ReactiveProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.entity.SimilarProductsEntity;
+import dev.juliangarcia.similarproducts.infrastructure.repository.mapper.RepositoryEntityMapper;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.netty.handler.timeout.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "similar-products.mode", havingValue = "reactive")
+public class ReactiveProductAdapter implements ReactiveProductRepository {
+
+  private final WebClient webClient;
+
+  private final WebClient similarIdsWebClient;
+
+  private final RepositoryEntityMapper mapper;
+
+  public ReactiveProductAdapter(@Qualifier("productRestClient") WebClient webClient,
+      @Qualifier("similarIdsRestClient") WebClient similarIdsWebClient, RepositoryEntityMapper mapper) {
+    this.webClient = webClient;
+    this.similarIdsWebClient = similarIdsWebClient;
+    this.mapper = mapper;
+  }
+
+  @CircuitBreaker(name = "similarProducts")
+  @Retry(name = "similarProductsRetry")
+  @Override
+  public Mono<List<String>> findSimilarProductsById(String productId) {
+    return this.similarIdsWebClient.get()
+        .uri("/product/{id}/similarids", productId)
+        .retrieve()
+        .bodyToMono(SimilarProductsEntity.class)
+        .map(this.mapper::toDomain)
+        .defaultIfEmpty(List.of())
+        .onErrorMap(TimeoutException.class, ex -> {
+          log.error("Timeout error fetching similar products for productId {}.", productId, ex);
+          return new ProductDetailTimeoutException("Timeout error fetching similar products.");
+        })
+        .onErrorMap(WebClientRequestException.class, ex -> {
+          log.error("Connection error fetching similar products for productId {}.", productId, ex);
+          return new ProductConnectionException("Error fetching similar products.");
+        });
+  }
+
+  @CircuitBreaker(name = "productDetails")
+  @Retry(name = "productDetailsRetry")
+  @Override
+  public Mono<ProductDetails> findProductDetailsById(String productId) {
+    return this.webClient.get()
+        .uri("/product/{id}", productId)
+        .retrieve()
+        .onStatus(status -> status.value() == 404,
+            clientResponse -> Mono.error(new ProductDetailNotFoundException()))
+        .onStatus(HttpStatusCode::is5xxServerError,
+            clientResponse -> Mono.error(new ProductDetailErrorException()))
+        .bodyToMono(ProductDetails.class)
+        .onErrorMap(TimeoutException.class, ex -> {
+          log.error("Timeout error fetching product details for productId {}.", productId, ex);
+          return new ProductDetailTimeoutException("Timeout error fetching product details.");
+        })
+        .onErrorMap(WebClientRequestException.class, ex -> {
+          log.error("Connection error fetching product details for productId {}.", productId, ex);
+          return new ProductConnectionException("Error fetching product details.");
+        });
+  }
+}
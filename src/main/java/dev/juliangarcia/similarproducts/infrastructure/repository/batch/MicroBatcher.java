@@ -0,0 +1,116 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class MicroBatcher<K, V> {
+
+  private final int maxBatchSize;
+
+  private final Function<List<K>, Map<K, V>> batchCall;
+
+  private final Supplier<RuntimeException> missingValueException;
+
+  private final Executor executor;
+
+  private final Executor delayedExecutor;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private Map<K, CompletableFuture<V>> pendingBatch = new LinkedHashMap<>();
+
+  public MicroBatcher(Duration window, int maxBatchSize, Function<List<K>, Map<K, V>> batchCall,
+      Supplier<RuntimeException> missingValueException, Executor executor) {
+    this.maxBatchSize = maxBatchSize;
+    this.batchCall = batchCall;
+    this.missingValueException = missingValueException;
+    this.executor = executor;
+    this.delayedExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, executor);
+  }
+
+  public V get(final K key) {
+    try {
+      return this.submit(key).get();
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while waiting for a batched call.");
+    }
+  }
+
+  public CompletableFuture<V> submit(final K key) {
+    Map<K, CompletableFuture<V>> fullBatch = null;
+    final CompletableFuture<V> result;
+
+    this.lock.lock();
+    try {
+      final boolean firstInWindow = this.pendingBatch.isEmpty();
+      result = this.pendingBatch.computeIfAbsent(key, k -> new CompletableFuture<>());
+
+      if (this.pendingBatch.size() >= this.maxBatchSize) {
+        fullBatch = this.takePendingBatch();
+      } else if (firstInWindow) {
+        final Map<K, CompletableFuture<V>> windowBatch = this.pendingBatch;
+        this.delayedExecutor.execute(() -> this.flushWindow(windowBatch));
+      }
+    } finally {
+      this.lock.unlock();
+    }
+
+    if (fullBatch != null) {
+      final Map<K, CompletableFuture<V>> batch = fullBatch;
+      this.executor.execute(() -> this.execute(batch));
+    }
+    return result;
+  }
+
+  private void flushWindow(final Map<K, CompletableFuture<V>> windowBatch) {
+    this.lock.lock();
+    try {
+      if (this.pendingBatch != windowBatch) {
+        return;
+      }
+      this.takePendingBatch();
+    } finally {
+      this.lock.unlock();
+    }
+    this.execute(windowBatch);
+  }
+
+  private Map<K, CompletableFuture<V>> takePendingBatch() {
+    final Map<K, CompletableFuture<V>> batch = this.pendingBatch;
+    this.pendingBatch = new LinkedHashMap<>();
+    return batch;
+  }
+
+  private void execute(final Map<K, CompletableFuture<V>> batch) {
+    try {
+      final Map<K, V> values = this.batchCall.apply(new ArrayList<>(batch.keySet()));
+      batch.forEach((key, result) -> {
+        final V value = values.get(key);
+        if (value == null) {
+          result.completeExceptionally(this.missingValueException.get());
+        } else {
+          result.complete(value);
+        }
+      });
+    } catch (final RuntimeException ex) {
+      batch.values().forEach(result -> result.completeExceptionally(ex));
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.juliangarcia.similarproducts.application.concurrent.RequestDeadline;
+import dev.juliangarcia.similarproducts.application.concurrent.StalenessTracker;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class CachingProductRepository implements ProductRepository {
+
+  static final String CACHE_NAME = "productDetails";
+
+  private final ProductRepository delegate;
+
+  private final AsyncLoadingCache<String, ProductDetails> productDetailsCache;
+
+  private final Policy.FixedExpiration<String, ProductDetails> expiration;
+
+  private final Counter refreshCounter;
+
+  public CachingProductRepository(ProductRepository delegate, ProductCacheProperties properties, Executor executor,
+      MeterRegistry meterRegistry) {
+    this(delegate, properties, executor, meterRegistry, Ticker.systemTicker());
+  }
+
+  CachingProductRepository(ProductRepository delegate, ProductCacheProperties properties, Executor executor,
+      MeterRegistry meterRegistry, Ticker ticker) {
+    this.delegate = delegate;
+    this.refreshCounter = Counter.builder("cache.refreshes")
+        .tag("cache", CACHE_NAME)
+        .description("The number of times stale cache entries were revalidated in the background")
+        .register(meterRegistry);
+    this.productDetailsCache = this.buildCache(properties, executor, ticker);
+    this.expiration = this.productDetailsCache.synchronous().policy().expireAfterWrite().orElseThrow();
+    CaffeineCacheMetrics.monitor(meterRegistry, this.productDetailsCache, CACHE_NAME);
+    Gauge.builder("cache.hit.ratio", this.productDetailsCache, cache -> cache.synchronous().stats().hitRate())
+        .tag("cache", CACHE_NAME)
+        .tag("tier", "l1")
+        .description("The ratio of cache requests which were hits")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    return this.delegate.findSimilarProductsById(productId);
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    try {
+      final ProductDetails productDetails = this.productDetailsCache.get(productId).get();
+      this.expiration.ageOf(productId).ifPresent(StalenessTracker::recordAge);
+      return productDetails;
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ProductRequestCancelledException("Interrupted while waiting for cached product details.");
+    }
+  }
+
+  private AsyncLoadingCache<String, ProductDetails> buildCache(final ProductCacheProperties properties,
+      final Executor executor, final Ticker ticker) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getTimeToLive().plus(properties.getStaleWhileRevalidate()))
+        .executor(executor)
+        .ticker(ticker)
+        .recordStats();
+
+    if (properties.getStaleWhileRevalidate().isPositive()) {
+      builder.refreshAfterWrite(properties.getTimeToLive());
+    }
+
+    return builder.buildAsync(new ProductDetailsLoader());
+  }
+
+  private final class ProductDetailsLoader implements AsyncCacheLoader<String, ProductDetails> {
+
+    @Override
+    public CompletableFuture<ProductDetails> asyncLoad(final String productId, final Executor executor) {
+      final Long deadline = RequestDeadline.current();
+      return CompletableFuture.supplyAsync(() -> RequestDeadline.callUntil(deadline,
+          () -> CachingProductRepository.this.delegate.findProductDetailsById(productId)), executor);
+    }
+
+    @Override
+    public CompletableFuture<ProductDetails> asyncReload(final String productId, final ProductDetails oldValue,
+        final Executor executor) {
+      CachingProductRepository.this.refreshCounter.increment();
+      return CompletableFuture.supplyAsync(
+          () -> CachingProductRepository.this.delegate.findProductDetailsById(productId), executor);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ConditionalRequestFilter implements ExchangeFilterFunction {
+
+  private final Cache<String, CachedResponse> responses;
+
+  private final Counter notModifiedCounter;
+
+  public ConditionalRequestFilter(long maximumWeight, Duration timeToLive, MeterRegistry meterRegistry) {
+    this.responses = Caffeine.newBuilder()
+        .maximumWeight(maximumWeight)
+        .weigher((String uri, CachedResponse response) -> uri.length() + response.body().length)
+        .expireAfterWrite(timeToLive)
+        .build();
+    this.notModifiedCounter = Counter.builder("product.upstream.not.modified")
+        .description("The number of upstream calls answered with 304 Not Modified")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    if (request.method() != HttpMethod.GET) {
+      return next.exchange(request);
+    }
+
+    final String uri = request.url().toString();
+    final CachedResponse cached = this.responses.getIfPresent(uri);
+    final ClientRequest conditionalRequest = cached == null
+        ? request
+        : ClientRequest.from(request).headers(headers -> headers.setIfNoneMatch(cached.eTag())).build();
+
+    return next.exchange(conditionalRequest).flatMap(response -> {
+      if (cached != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+        this.notModifiedCounter.increment();
+        return response.releaseBody().then(Mono.fromSupplier(() -> this.replay(response, cached)));
+      }
+      final String eTag = response.headers().asHttpHeaders().getETag();
+      if (response.statusCode().value() != HttpStatus.OK.value() || eTag == null) {
+        return Mono.just(response);
+      }
+      return response.bodyToMono(byte[].class)
+          .defaultIfEmpty(new byte[0])
+          .map(body -> {
+            this.responses.put(uri, new CachedResponse(eTag, response.headers().contentType().orElse(null), body));
+            return response.mutate().body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body))).build();
+          });
+    });
+  }
+
+  private ClientResponse replay(final ClientResponse notModified, final CachedResponse cached) {
+    return notModified.mutate()
+        .statusCode(HttpStatus.OK)
+        .headers(headers -> {
+          headers.setETag(cached.eTag());
+          if (cached.contentType() != null) {
+            headers.setContentType(cached.contentType());
+          }
+          headers.remove(HttpHeaders.CONTENT_LENGTH);
+        })
+        .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(cached.body())))
+        .build();
+  }
+
+  private record CachedResponse(String eTag, MediaType contentType, byte[] body) {
+  }
+}
@@ -0,0 +1,81 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class DiskCachingProductRepository implements ProductRepository {
+
+  static final String CACHE_NAME = "productDetailsDisk";
+
+  private final ProductRepository delegate;
+
+  private final MappedProductDetailsStore store;
+
+  private final Counter hitCounter;
+
+  private final Counter missCounter;
+
+  private final Counter putCounter;
+
+  public DiskCachingProductRepository(ProductRepository delegate, MappedProductDetailsStore store,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.store = store;
+    this.hitCounter = this.getsCounter(meterRegistry, "hit");
+    this.missCounter = this.getsCounter(meterRegistry, "miss");
+    this.putCounter = Counter.builder("cache.puts")
+        .tag("cache", CACHE_NAME)
+        .description("The number of entries added to the cache")
+        .register(meterRegistry);
+    Gauge.builder("cache.hit.ratio", this, DiskCachingProductRepository::hitRatio)
+        .tag("cache", CACHE_NAME)
+        .tag("tier", "l2")
+        .description("The ratio of cache requests which were hits")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    return this.delegate.findSimilarProductsById(productId);
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    final ProductDetails cached = this.store.get(productId);
+    if (cached != null) {
+      this.hitCounter.increment();
+      return cached;
+    }
+
+    this.missCounter.increment();
+    final ProductDetails productDetails = this.delegate.findProductDetailsById(productId);
+    if (productDetails != null) {
+      this.store(productId, productDetails);
+    }
+    return productDetails;
+  }
+
+  private void store(final String productId, final ProductDetails productDetails) {
+    if (this.store.put(productId, productDetails)) {
+      this.putCounter.increment();
+    }
+  }
+
+  private double hitRatio() {
+    final double requests = this.hitCounter.count() + this.missCounter.count();
+    return requests == 0 ? 0 : this.hitCounter.count() / requests;
+  }
+
+  private Counter getsCounter(final MeterRegistry meterRegistry, final String result) {
+    return Counter.builder("cache.gets")
+        .tag("cache", CACHE_NAME)
+        .tag("result", result)
+        .description("The number of times cache lookup methods have returned a cached (hit) or uncached (miss) value")
+        .register(meterRegistry);
+  }
+}
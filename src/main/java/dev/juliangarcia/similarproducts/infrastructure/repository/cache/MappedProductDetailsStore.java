@@ -0,0 +1,260 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class MappedProductDetailsStore implements AutoCloseable {
+
+  static final int SLOT_SIZE = 256;
+
+  static final int SLOTS_PER_BUCKET = 8;
+
+  static final int MAX_ID_BYTES = 64;
+
+  static final int MAX_NAME_BYTES = 168;
+
+  private static final int MAGIC = 0x50444C32;
+
+  private static final int VERSION = 1;
+
+  private static final int HEADER_SIZE = 4096;
+
+  private static final int BUCKET_SIZE = SLOT_SIZE * SLOTS_PER_BUCKET;
+
+  private static final int MAX_BUCKETS_PER_SEGMENT = 1 << 18;
+
+  private static final int LOCK_STRIPES = 1024;
+
+  private static final int STATE_OFFSET = 0;
+
+  private static final int AVAILABILITY_OFFSET = 1;
+
+  private static final int ID_LENGTH_OFFSET = 2;
+
+  private static final int NAME_LENGTH_OFFSET = 4;
+
+  private static final int WRITTEN_AT_OFFSET = 8;
+
+  private static final int PRICE_OFFSET = 16;
+
+  private static final int ID_OFFSET = 24;
+
+  private static final int NAME_OFFSET = ID_OFFSET + MAX_ID_BYTES;
+
+  private static final byte EMPTY = 0;
+
+  private static final byte USED = 1;
+
+  private static final short NULL_NAME = -1;
+
+  private final FileChannel channel;
+
+  private final MappedByteBuffer[] segments;
+
+  private final int bucketsPerSegment;
+
+  private final long bucketMask;
+
+  private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+  private final long timeToLiveMillis;
+
+  private final Clock clock;
+
+  public MappedProductDetailsStore(Path path, long capacity, Duration timeToLive) {
+    this(path, capacity, timeToLive, Clock.systemUTC());
+  }
+
+  MappedProductDetailsStore(Path path, long capacity, Duration timeToLive, Clock clock) {
+    final long bucketCount = Long.highestOneBit(Math.max(capacity / SLOTS_PER_BUCKET, 1));
+    this.bucketsPerSegment = (int) Math.min(bucketCount, MAX_BUCKETS_PER_SEGMENT);
+    this.bucketMask = bucketCount - 1;
+    this.timeToLiveMillis = timeToLive.toMillis();
+    this.clock = clock;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      this.locks[i] = new ReentrantLock();
+    }
+
+    try {
+      Files.createDirectories(path.toAbsolutePath().getParent());
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+      this.initializeHeader(path, bucketCount);
+      this.segments = new MappedByteBuffer[(int) (bucketCount / this.bucketsPerSegment)];
+      final long segmentSize = (long) this.bucketsPerSegment * BUCKET_SIZE;
+      for (int i = 0; i < this.segments.length; i++) {
+        this.segments[i] = this.channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + i * segmentSize,
+            segmentSize);
+      }
+    } catch (final IOException ex) {
+      throw new UncheckedIOException("Unable to open product details store " + path, ex);
+    }
+  }
+
+  public ProductDetails get(String productId) {
+    final byte[] id = productId.getBytes(StandardCharsets.UTF_8);
+    if (id.length > MAX_ID_BYTES) {
+      return null;
+    }
+
+    final long bucket = this.bucket(productId);
+    final ByteBuffer segment = this.segment(bucket);
+    final int bucketOffset = this.bucketOffset(bucket);
+    final long now = this.clock.millis();
+    final ReentrantLock lock = this.lock(bucket);
+    lock.lock();
+    try {
+      for (int slot = 0; slot < SLOTS_PER_BUCKET; slot++) {
+        final int offset = bucketOffset + slot * SLOT_SIZE;
+        if (this.matches(segment, offset, id)) {
+          return this.isExpired(segment, offset, now) ? null : this.read(segment, offset, productId);
+        }
+      }
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean put(String productId, ProductDetails productDetails) {
+    final byte[] id = productId.getBytes(StandardCharsets.UTF_8);
+    final byte[] name = productDetails.getName() == null
+        ? null
+        : productDetails.getName().getBytes(StandardCharsets.UTF_8);
+    if (id.length > MAX_ID_BYTES || name != null && name.length > MAX_NAME_BYTES) {
+      return false;
+    }
+
+    final long bucket = this.bucket(productId);
+    final ByteBuffer segment = this.segment(bucket);
+    final int bucketOffset = this.bucketOffset(bucket);
+    final long now = this.clock.millis();
+    final ReentrantLock lock = this.lock(bucket);
+    lock.lock();
+    try {
+      final int offset = this.slotFor(segment, bucketOffset, id, now);
+      segment.put(offset + STATE_OFFSET, EMPTY);
+      segment.put(offset + AVAILABILITY_OFFSET, (byte) (productDetails.isAvailability() ? 1 : 0));
+      segment.putShort(offset + ID_LENGTH_OFFSET, (short) id.length);
+      segment.putShort(offset + NAME_LENGTH_OFFSET, name == null ? NULL_NAME : (short) name.length);
+      segment.putLong(offset + WRITTEN_AT_OFFSET, now);
+      segment.putDouble(offset + PRICE_OFFSET, productDetails.getPrice());
+      segment.put(offset + ID_OFFSET, id);
+      if (name != null) {
+        segment.put(offset + NAME_OFFSET, name);
+      }
+      segment.put(offset + STATE_OFFSET, USED);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    for (final MappedByteBuffer segment : this.segments) {
+      segment.force();
+    }
+    try {
+      this.channel.close();
+    } catch (final IOException ex) {
+      log.warn("Error closing product details store.", ex);
+    }
+  }
+
+  private void initializeHeader(final Path path, final long bucketCount) throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(24);
+    if (this.channel.size() >= HEADER_SIZE) {
+      this.channel.read(header, 0);
+      header.flip();
+      if (header.getInt() == MAGIC && header.getInt() == VERSION && header.getInt() == SLOT_SIZE
+          && header.getInt() == SLOTS_PER_BUCKET && header.getLong() == bucketCount) {
+        return;
+      }
+      log.info("Product details store {} has an incompatible layout, discarding it.", path);
+      this.channel.truncate(0);
+    }
+
+    header.clear();
+    header.putInt(MAGIC).putInt(VERSION).putInt(SLOT_SIZE).putInt(SLOTS_PER_BUCKET).putLong(bucketCount).flip();
+    this.channel.write(header, 0);
+  }
+
+  private int slotFor(final ByteBuffer segment, final int bucketOffset, final byte[] id, final long now) {
+    int victim = bucketOffset;
+    long oldest = Long.MAX_VALUE;
+    for (int slot = 0; slot < SLOTS_PER_BUCKET; slot++) {
+      final int offset = bucketOffset + slot * SLOT_SIZE;
+      if (segment.get(offset + STATE_OFFSET) != USED || this.matches(segment, offset, id)) {
+        return offset;
+      }
+      final long writtenAt = segment.getLong(offset + WRITTEN_AT_OFFSET);
+      if (writtenAt < oldest) {
+        oldest = writtenAt;
+        victim = offset;
+      }
+    }
+    return victim;
+  }
+
+  private boolean matches(final ByteBuffer segment, final int offset, final byte[] id) {
+    if (segment.get(offset + STATE_OFFSET) != USED || segment.getShort(offset + ID_LENGTH_OFFSET) != id.length) {
+      return false;
+    }
+    for (int i = 0; i < id.length; i++) {
+      if (segment.get(offset + ID_OFFSET + i) != id[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isExpired(final ByteBuffer segment, final int offset, final long now) {
+    return now - segment.getLong(offset + WRITTEN_AT_OFFSET) >= this.timeToLiveMillis;
+  }
+
+  private ProductDetails read(final ByteBuffer segment, final int offset, final String productId) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(productId);
+    productDetails.setPrice(segment.getDouble(offset + PRICE_OFFSET));
+    productDetails.setAvailability(segment.get(offset + AVAILABILITY_OFFSET) == 1);
+    final short nameLength = segment.getShort(offset + NAME_LENGTH_OFFSET);
+    if (nameLength != NULL_NAME) {
+      final byte[] name = new byte[nameLength];
+      segment.get(offset + NAME_OFFSET, name);
+      productDetails.setName(new String(name, StandardCharsets.UTF_8));
+    }
+    return productDetails;
+  }
+
+  private long bucket(final String productId) {
+    final int hash = productId.hashCode();
+    return (hash ^ (hash >>> 16)) & this.bucketMask;
+  }
+
+  private ByteBuffer segment(final long bucket) {
+    return this.segments[(int) (bucket / this.bucketsPerSegment)];
+  }
+
+  private int bucketOffset(final long bucket) {
+    return (int) (bucket % this.bucketsPerSegment) * BUCKET_SIZE;
+  }
+
+  private ReentrantLock lock(final long bucket) {
+    return this.locks[(int) (bucket & (LOCK_STRIPES - 1))];
+  }
+}
@@ -0,0 +1,74 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class NegativeCachingProductRepository implements ProductRepository {
+
+  static final String NOT_FOUND_CACHE_NAME = "productDetailsNotFound";
+
+  static final String EMPTY_SIMILAR_CACHE_NAME = "similarProductsEmpty";
+
+  private final ProductRepository delegate;
+
+  private final Cache<String, Boolean> notFoundProductIds;
+
+  private final Cache<String, Boolean> productIdsWithoutSimilar;
+
+  public NegativeCachingProductRepository(ProductRepository delegate, ProductCacheProperties.Negative properties,
+      MeterRegistry meterRegistry) {
+    this(delegate, properties, meterRegistry, Ticker.systemTicker());
+  }
+
+  NegativeCachingProductRepository(ProductRepository delegate, ProductCacheProperties.Negative properties,
+      MeterRegistry meterRegistry, Ticker ticker) {
+    this.delegate = delegate;
+    this.notFoundProductIds = this.buildCache(properties, ticker);
+    this.productIdsWithoutSimilar = this.buildCache(properties, ticker);
+    CaffeineCacheMetrics.monitor(meterRegistry, this.notFoundProductIds, NOT_FOUND_CACHE_NAME);
+    CaffeineCacheMetrics.monitor(meterRegistry, this.productIdsWithoutSimilar, EMPTY_SIMILAR_CACHE_NAME);
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    if (this.productIdsWithoutSimilar.getIfPresent(productId) != null) {
+      return List.of();
+    }
+    final List<String> similarProductIds = this.delegate.findSimilarProductsById(productId);
+    if (similarProductIds.isEmpty()) {
+      this.productIdsWithoutSimilar.put(productId, Boolean.TRUE);
+    }
+    return similarProductIds;
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    if (this.notFoundProductIds.getIfPresent(productId) != null) {
+      throw new ProductDetailNotFoundException();
+    }
+    try {
+      return this.delegate.findProductDetailsById(productId);
+    } catch (final ProductDetailNotFoundException ex) {
+      this.notFoundProductIds.put(productId, Boolean.TRUE);
+      throw ex;
+    }
+  }
+
+  private Cache<String, Boolean> buildCache(final ProductCacheProperties.Negative properties, final Ticker ticker) {
+    return Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getTimeToLive())
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+}
@@ -0,0 +1,89 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.juliangarcia.similarproducts.application.concurrent.RequestDeadline;
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class SimilarIdsCache {
+
+  static final String CACHE_NAME = "similarIds";
+
+  private final AsyncCache<String, List<String>> cache;
+
+  public SimilarIdsCache(ProductCacheProperties.SimilarIds properties, Executor executor, MeterRegistry meterRegistry) {
+    this(properties, executor, meterRegistry, Ticker.systemTicker());
+  }
+
+  SimilarIdsCache(ProductCacheProperties.SimilarIds properties, Executor executor, MeterRegistry meterRegistry,
+      Ticker ticker) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(properties.getMaximumWeight())
+        .weigher((String productId, List<String> similarProductIds) -> similarProductIds.size() + 1)
+        .expireAfterWrite(properties.getTimeToLive())
+        .executor(executor)
+        .ticker(ticker)
+        .recordStats()
+        .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+  }
+
+  public List<String> get(String productId, Function<String, List<String>> loader) {
+    final Long deadline = RequestDeadline.current();
+    try {
+      return this.cache.get(productId, (key, executor) -> CompletableFuture.supplyAsync(
+          () -> RequestDeadline.callUntil(deadline, () -> loader.apply(key)), executor)).get();
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ProductRequestCancelledException("Interrupted while waiting for cached similar ids.");
+    }
+  }
+
+  public long size() {
+    return this.cache.synchronous().estimatedSize();
+  }
+
+  public List<String> hottestProductIds(int limit) {
+    return this.cache.synchronous().policy().eviction()
+        .map(eviction -> List.copyOf(eviction.hottest(limit).keySet()))
+        .orElse(List.of());
+  }
+
+  public int invalidate(String productId) {
+    return this.cache.asMap().remove(productId) != null ? 1 : 0;
+  }
+
+  public int invalidateByPrefix(String prefix) {
+    int invalidated = 0;
+    for (final String productId : this.cache.asMap().keySet()) {
+      if (productId.startsWith(prefix) && this.cache.asMap().remove(productId) != null) {
+        invalidated++;
+      }
+    }
+    return invalidated;
+  }
+
+  public int invalidateAll() {
+    final int invalidated = Math.toIntExact(this.cache.synchronous().estimatedSize());
+    this.cache.synchronous().invalidateAll();
+    return invalidated;
+  }
+}
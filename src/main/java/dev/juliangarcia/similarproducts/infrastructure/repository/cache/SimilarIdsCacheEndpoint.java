@@ -0,0 +1,39 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+@Slf4j
+@Endpoint(id = "similarids")
+public class SimilarIdsCacheEndpoint {
+
+  private final SimilarIdsCache similarIdsCache;
+
+  public SimilarIdsCacheEndpoint(SimilarIdsCache similarIdsCache) {
+    this.similarIdsCache = similarIdsCache;
+  }
+
+  @ReadOperation
+  public Map<String, Object> cache() {
+    return Map.of("size", this.similarIdsCache.size());
+  }
+
+  @DeleteOperation
+  public Map<String, Object> invalidate(@Nullable final String productId, @Nullable final String prefix) {
+    final int invalidated;
+    if (productId != null) {
+      invalidated = this.similarIdsCache.invalidate(productId);
+    } else if (prefix != null) {
+      invalidated = this.similarIdsCache.invalidateByPrefix(prefix);
+    } else {
+      invalidated = this.similarIdsCache.invalidateAll();
+    }
+    log.info("Invalidated {} similar id lists (productId={}, prefix={}).", invalidated, productId, prefix);
+    return Map.of("invalidated", invalidated);
+  }
+}
@@ -0,0 +1,32 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+
+public class SimilarIdsCachingProductRepository implements ProductRepository {
+
+  private final ProductRepository delegate;
+
+  private final SimilarIdsCache similarIdsCache;
+
+  public SimilarIdsCachingProductRepository(ProductRepository delegate, SimilarIdsCache similarIdsCache) {
+    this.delegate = delegate;
+    this.similarIdsCache = similarIdsCache;
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    final List<String> similarProductIds = this.similarIdsCache.get(productId, this.delegate::findSimilarProductsById);
+    if (similarProductIds.isEmpty()) {
+      this.similarIdsCache.invalidate(productId);
+    }
+    return similarProductIds;
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    return this.delegate.findProductDetailsById(productId);
+  }
+}
@@ -0,0 +1,87 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import dev.juliangarcia.similarproducts.application.concurrent.StalenessTracker;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@Slf4j
+public class StaleFallbackProductRepository implements ProductRepository {
+
+  static final String METRIC_NAME = "product.repository.stale.served";
+
+  private final ProductRepository delegate;
+
+  private final StaleProductStore store;
+
+  private final Counter similarProductsStaleCounter;
+
+  private final Counter productDetailsStaleCounter;
+
+  public StaleFallbackProductRepository(ProductRepository delegate, StaleProductStore store,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.store = store;
+    this.similarProductsStaleCounter = this.counter(meterRegistry, "similarProducts");
+    this.productDetailsStaleCounter = this.counter(meterRegistry, "productDetails");
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    return this.withFallback(() -> this.delegate.findSimilarProductsById(productId),
+        () -> this.store.getSimilarProducts(productId), this.similarProductsStaleCounter, productId);
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    return this.withFallback(() -> this.delegate.findProductDetailsById(productId),
+        () -> this.store.getProductDetails(productId), this.productDetailsStaleCounter, productId);
+  }
+
+  private <T> T withFallback(final Supplier<T> call, final Supplier<T> fallback, final Counter staleCounter,
+      final Object productId) {
+    try {
+      return call.get();
+    } catch (final RuntimeException ex) {
+      if (!this.isUnavailable(ex)) {
+        throw ex;
+      }
+      final T stale = fallback.get();
+      if (stale == null) {
+        throw ex;
+      }
+      log.debug("Serving stale value for productId {} after {}.", productId, ex.getClass().getSimpleName());
+      staleCounter.increment();
+      StalenessTracker.markStale();
+      return stale;
+    }
+  }
+
+  private boolean isUnavailable(final RuntimeException ex) {
+    return ex instanceof CallNotPermittedException
+        || ex instanceof ProductDetailTimeoutException
+        || ex instanceof ProductConnectionException
+        || ex instanceof ProductServiceOverloadedException
+        || ex instanceof ProductDetailErrorException
+        || ex instanceof WebClientResponseException responseException
+        && responseException.getStatusCode().is5xxServerError();
+  }
+
+  private Counter counter(final MeterRegistry meterRegistry, final String operation) {
+    return Counter.builder(METRIC_NAME)
+        .tag("operation", operation)
+        .description("Calls answered with a last known good value because the upstream was unavailable")
+        .register(meterRegistry);
+  }
+}
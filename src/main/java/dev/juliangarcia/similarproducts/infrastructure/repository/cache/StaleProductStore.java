@@ -0,0 +1,59 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class StaleProductStore {
+
+  static final String PRODUCT_DETAILS_CACHE_NAME = "productDetailsStale";
+
+  static final String SIMILAR_PRODUCTS_CACHE_NAME = "similarProductsStale";
+
+  private final Cache<String, ProductDetails> productDetails;
+
+  private final Cache<String, List<String>> similarProductIds;
+
+  public StaleProductStore(ProductCacheProperties.StaleFallback properties, MeterRegistry meterRegistry) {
+    this(properties, meterRegistry, Ticker.systemTicker());
+  }
+
+  StaleProductStore(ProductCacheProperties.StaleFallback properties, MeterRegistry meterRegistry, Ticker ticker) {
+    this.productDetails = this.buildCache(properties, ticker);
+    this.similarProductIds = this.buildCache(properties, ticker);
+    CaffeineCacheMetrics.monitor(meterRegistry, this.productDetails, PRODUCT_DETAILS_CACHE_NAME);
+    CaffeineCacheMetrics.monitor(meterRegistry, this.similarProductIds, SIMILAR_PRODUCTS_CACHE_NAME);
+  }
+
+  public void putSimilarProducts(String productId, List<String> similarProducts) {
+    this.similarProductIds.put(productId, similarProducts);
+  }
+
+  public void putProductDetails(String productId, ProductDetails details) {
+    this.productDetails.put(productId, details);
+  }
+
+  public List<String> getSimilarProducts(String productId) {
+    return this.similarProductIds.getIfPresent(productId);
+  }
+
+  public ProductDetails getProductDetails(String productId) {
+    return this.productDetails.getIfPresent(productId);
+  }
+
+  private <V> Cache<String, V> buildCache(final ProductCacheProperties.StaleFallback properties,
+      final Ticker ticker) {
+    return Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getMaxStaleness())
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+}
@@ -0,0 +1,34 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+
+public class StaleRecordingProductRepository implements ProductRepository {
+
+  private final ProductRepository delegate;
+
+  private final StaleProductStore store;
+
+  public StaleRecordingProductRepository(ProductRepository delegate, StaleProductStore store) {
+    this.delegate = delegate;
+    this.store = store;
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    final List<String> similarProducts = this.delegate.findSimilarProductsById(productId);
+    this.store.putSimilarProducts(productId, similarProducts);
+    return similarProducts;
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    final ProductDetails details = this.delegate.findProductDetailsById(productId);
+    if (details != null) {
+      this.store.putProductDetails(productId, details);
+    }
+    return details;
+  }
+}
@@ -0,0 +1,61 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.coalescing;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+
+  private final Counter coalescedCounter;
+
+  public SingleFlight(Counter coalescedCounter) {
+    this.coalescedCounter = coalescedCounter;
+  }
+
+  public V execute(final K key, final Supplier<V> call) {
+    final CompletableFuture<V> ownCall = new CompletableFuture<>();
+    final CompletableFuture<V> inFlightCall = this.inFlightCalls.putIfAbsent(key, ownCall);
+
+    if (inFlightCall != null) {
+      this.coalescedCounter.increment();
+      return this.await(inFlightCall, key, call);
+    }
+
+    try {
+      final V value = call.get();
+      ownCall.complete(value);
+      return value;
+    } catch (final RuntimeException | Error ex) {
+      ownCall.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      this.inFlightCalls.remove(key, ownCall);
+    }
+  }
+
+  private V await(final CompletableFuture<V> inFlightCall, final K key, final Supplier<V> call) {
+    try {
+      return inFlightCall.get();
+    } catch (final CancellationException ex) {
+      return this.execute(key, call);
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while waiting for an in-flight call.");
+    }
+  }
+}
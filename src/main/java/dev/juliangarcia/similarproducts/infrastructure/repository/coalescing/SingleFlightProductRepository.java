@@ -0,0 +1,40 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.coalescing;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class SingleFlightProductRepository implements ProductRepository {
+
+  private final ProductRepository delegate;
+
+  private final SingleFlight<String, List<String>> similarProductsCalls;
+
+  private final SingleFlight<String, ProductDetails> productDetailsCalls;
+
+  public SingleFlightProductRepository(ProductRepository delegate, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.similarProductsCalls = new SingleFlight<>(this.coalescedCounter(meterRegistry, "similarProducts"));
+    this.productDetailsCalls = new SingleFlight<>(this.coalescedCounter(meterRegistry, "productDetails"));
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    return this.similarProductsCalls.execute(productId, () -> this.delegate.findSimilarProductsById(productId));
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    return this.productDetailsCalls.execute(productId, () -> this.delegate.findProductDetailsById(productId));
+  }
+
+  private Counter coalescedCounter(final MeterRegistry meterRegistry, final String operation) {
+    return Counter.builder("product.repository.coalesced")
+        .tag("operation", operation)
+        .description("The number of calls that joined an in-flight upstream call for the same product")
+        .register(meterRegistry);
+  }
+}
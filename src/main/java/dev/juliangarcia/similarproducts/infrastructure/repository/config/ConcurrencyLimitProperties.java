@@ -0,0 +1,28 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.config;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+  private boolean enabled = true;
+
+  private int initialLimit = 50;
+
+  private int minLimit = 10;
+
+  private int maxLimit = 500;
+
+  private double backoffRatio = 0.9;
+
+  private Duration latencyThreshold = Duration.ofMillis(500);
+
+  private int maxQueueSize = 1_000;
+
+  private Duration maxQueueWait = Duration.ofMillis(200);
+}
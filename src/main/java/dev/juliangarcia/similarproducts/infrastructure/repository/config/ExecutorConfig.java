@@ -4,10 +4,15 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
 import dev.juliangarcia.similarproducts.application.provider.TaskExecutorProvider;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
 public class ExecutorConfig {
 
   @Bean
@@ -16,4 +21,11 @@ public class ExecutorConfig {
     return () -> executor;
   }
 
+  @Bean
+  @ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+  public AdaptiveConcurrencyLimiter upstreamConcurrencyLimiter(ConcurrencyLimitProperties properties,
+      MeterRegistry meterRegistry) {
+    return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+  }
+
 }
@@ -0,0 +1,71 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product-cache")
+public class ProductCacheProperties {
+  private boolean enabled = true;
+
+  private long maximumSize = 10_000;
+
+  private Duration timeToLive = Duration.ofSeconds(30);
+
+  private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+
+  private Negative negative = new Negative();
+
+  private SimilarIds similarIds = new SimilarIds();
+
+  private Disk disk = new Disk();
+
+  private StaleFallback staleFallback = new StaleFallback();
+
+  @Getter
+  @Setter
+  public static class Negative {
+    private boolean enabled = true;
+
+    private long maximumSize = 10_000;
+
+    private Duration timeToLive = Duration.ofSeconds(10);
+  }
+
+  @Getter
+  @Setter
+  public static class SimilarIds {
+    private boolean enabled = true;
+
+    private long maximumWeight = 1_000_000;
+
+    private Duration timeToLive = Duration.ofHours(6);
+  }
+
+  @Getter
+  @Setter
+  public static class Disk {
+    private boolean enabled;
+
+    private Path path = Path.of(System.getProperty("java.io.tmpdir"), "similar-products", "product-details.l2");
+
+    private long capacity = 1_048_576;
+
+    private Duration timeToLive = Duration.ofMinutes(10);
+  }
+
+  @Getter
+  @Setter
+  public static class StaleFallback {
+    private boolean enabled = true;
+
+    private long maximumSize = 10_000;
+
+    private Duration maxStaleness = Duration.ofHours(1);
+  }
+}
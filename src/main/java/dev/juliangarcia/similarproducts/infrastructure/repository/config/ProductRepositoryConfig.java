@@ -0,0 +1,135 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.config;
+
+import java.time.Duration;
+
+import dev.juliangarcia.similarproducts.application.provider.TaskExecutorProvider;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.latency.LatencyRecorders;
+import dev.juliangarcia.similarproducts.infrastructure.repository.ProductAdapter;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.CachingProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.DiskCachingProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.MappedProductDetailsStore;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.NegativeCachingProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.SimilarIdsCache;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.SimilarIdsCacheEndpoint;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.SimilarIdsCachingProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.StaleFallbackProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.StaleProductStore;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.StaleRecordingProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.coalescing.SingleFlightProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.metrics.TimedProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.AdaptiveConcurrencyLimiter;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.BulkheadProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.ConcurrencyLimitedProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.RetryPolicy;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.RetryingProductRepository;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@EnableConfigurationProperties({ProductCacheProperties.class, RequestCoalescingProperties.class})
+public class ProductRepositoryConfig {
+
+  private final ProductCacheProperties cacheProperties;
+
+  private final RequestCoalescingProperties coalescingProperties;
+
+  private final RestClientProperties restClientProperties;
+
+  public ProductRepositoryConfig(ProductCacheProperties cacheProperties,
+      RequestCoalescingProperties coalescingProperties, RestClientProperties restClientProperties) {
+    this.cacheProperties = cacheProperties;
+    this.coalescingProperties = coalescingProperties;
+    this.restClientProperties = restClientProperties;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "product-cache.similar-ids.enabled", havingValue = "true", matchIfMissing = true)
+  public SimilarIdsCache similarIdsCache(TaskExecutorProvider taskExecutorProvider, MeterRegistry meterRegistry) {
+    return new SimilarIdsCache(this.cacheProperties.getSimilarIds(), taskExecutorProvider.getExecutor(),
+        meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "product-cache.similar-ids.enabled", havingValue = "true", matchIfMissing = true)
+  public SimilarIdsCacheEndpoint similarIdsCacheEndpoint(SimilarIdsCache similarIdsCache) {
+    return new SimilarIdsCacheEndpoint(similarIdsCache);
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "product-cache.disk.enabled", havingValue = "true")
+  public MappedProductDetailsStore mappedProductDetailsStore() {
+    final ProductCacheProperties.Disk disk = this.cacheProperties.getDisk();
+    return new MappedProductDetailsStore(disk.getPath(), disk.getCapacity(), this.diskTimeToLive(disk));
+  }
+
+  @Bean
+  @Primary
+  public ProductRepository productRepository(ProductAdapter productAdapter, TaskExecutorProvider taskExecutorProvider,
+      ObjectProvider<SimilarIdsCache> similarIdsCache, ObjectProvider<MappedProductDetailsStore> productDetailsStore,
+      ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter, ObjectProvider<LatencyRecorders> latencyRecorders,
+      BulkheadRegistry bulkheadRegistry, RetryPolicy productRetryPolicy, MeterRegistry meterRegistry) {
+    ProductRepository repository = new TimedProductRepository(productAdapter, meterRegistry,
+        latencyRecorders.getIfAvailable());
+    repository = new BulkheadProductRepository(repository, bulkheadRegistry.bulkhead("similarProducts"),
+        bulkheadRegistry.bulkhead("productDetails"), meterRegistry);
+
+    final AdaptiveConcurrencyLimiter limiter = concurrencyLimiter.getIfAvailable();
+    if (limiter != null) {
+      repository = new ConcurrencyLimitedProductRepository(repository, limiter);
+    }
+
+    repository = new RetryingProductRepository(repository, productRetryPolicy,
+        this.restClientProperties.getRetry().getSimilarIdsMaxAttempts());
+
+    final StaleProductStore staleStore = this.cacheProperties.getStaleFallback().isEnabled()
+        ? new StaleProductStore(this.cacheProperties.getStaleFallback(), meterRegistry)
+        : null;
+    if (staleStore != null) {
+      repository = new StaleRecordingProductRepository(repository, staleStore);
+    }
+
+    if (this.coalescingProperties.isEnabled()) {
+      repository = new SingleFlightProductRepository(repository, meterRegistry);
+    }
+
+    final MappedProductDetailsStore store = productDetailsStore.getIfAvailable();
+    if (store != null) {
+      repository = new DiskCachingProductRepository(repository, store, meterRegistry);
+    }
+
+    if (this.cacheProperties.isEnabled()) {
+      repository = new CachingProductRepository(repository, this.cacheProperties, taskExecutorProvider.getExecutor(),
+          meterRegistry);
+    }
+
+    final SimilarIdsCache cache = similarIdsCache.getIfAvailable();
+    if (cache != null) {
+      repository = new SimilarIdsCachingProductRepository(repository, cache);
+    }
+
+    if (this.cacheProperties.getNegative().isEnabled()) {
+      repository = new NegativeCachingProductRepository(repository, this.cacheProperties.getNegative(), meterRegistry);
+    }
+
+    if (staleStore != null) {
+      repository = new StaleFallbackProductRepository(repository, staleStore, meterRegistry);
+    }
+
+    return repository;
+  }
+
+  private Duration diskTimeToLive(final ProductCacheProperties.Disk disk) {
+    if (!this.cacheProperties.isEnabled()) {
+      return disk.getTimeToLive();
+    }
+    final Duration timeToLive = this.cacheProperties.getTimeToLive();
+    return disk.getTimeToLive().compareTo(timeToLive) > 0 ? timeToLive : disk.getTimeToLive();
+  }
+}
@@ -0,0 +1,12 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "request-coalescing")
+public class RequestCoalescingProperties {
+  private boolean enabled = true;
+}
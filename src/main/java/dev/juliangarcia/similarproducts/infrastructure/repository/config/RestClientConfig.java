@@ -1,17 +1,43 @@
 package dev.juliangarcia.similarproducts.infrastructure.repository.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.ConditionalRequestFilter;
+import dev.juliangarcia.similarproducts.infrastructure.repository.json.ProductDetailsDeserializer;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.HedgingPolicy;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.RequestBudget;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.RetryPolicy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.codec.CodecCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 @EnableConfigurationProperties(RestClientProperties.class)
 public class RestClientConfig {
 
+  static final String SMILE_FIRST_ACCEPT = "application/x-jackson-smile, application/json;q=0.9";
+
+  private static final MimeType[] SMILE_MIME_TYPES = {new MimeType("application", "x-jackson-smile")};
+
   private final RestClientProperties properties;
 
   public RestClientConfig(RestClientProperties properties) {
@@ -19,16 +45,108 @@ public class RestClientConfig {
   }
 
   @Bean
-  public WebClient productRestClient(WebClient.Builder webClientBuilder) {
+  public WebClient productRestClient(WebClient.Builder webClientBuilder,
+      @Qualifier("productConnectionProvider") ConnectionProvider productConnectionProvider,
+      ObjectProvider<ConditionalRequestFilter> conditionalRequestFilter) {
+    return this.createWebClient(webClientBuilder, productConnectionProvider, conditionalRequestFilter);
+  }
+
+  @Bean
+  public WebClient similarIdsRestClient(WebClient.Builder webClientBuilder,
+      @Qualifier("similarIdsConnectionProvider") ConnectionProvider similarIdsConnectionProvider,
+      ObjectProvider<ConditionalRequestFilter> conditionalRequestFilter) {
+    return this.createWebClient(webClientBuilder, similarIdsConnectionProvider, conditionalRequestFilter);
+  }
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider productConnectionProvider() {
+    return this.createConnectionProvider(this.properties.getPool());
+  }
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider similarIdsConnectionProvider() {
+    return this.createConnectionProvider(this.properties.getSimilarIdsPool());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "rest-client.conditional-requests.enabled", havingValue = "true",
+      matchIfMissing = true)
+  public ConditionalRequestFilter conditionalRequestFilter(MeterRegistry meterRegistry) {
+    final RestClientProperties.ConditionalRequests conditionalRequests = this.properties.getConditionalRequests();
+    return new ConditionalRequestFilter(conditionalRequests.getMaximumWeight(), conditionalRequests.getTimeToLive(),
+        meterRegistry);
+  }
+
+  @Bean
+  public SimpleModule productDetailsDeserializationModule() {
+    return new SimpleModule("productDetailsDeserialization")
+        .addDeserializer(ProductDetails.class, new ProductDetailsDeserializer());
+  }
+
+  @Bean
+  public CodecCustomizer smileCodecCustomizer(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+    final ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+    return configurer -> {
+      configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE_MIME_TYPES));
+      configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE_MIME_TYPES));
+    };
+  }
+
+  @Bean
+  public RequestBudget upstreamRequestBudget(MeterRegistry meterRegistry) {
+    final RestClientProperties.Budget budget = this.properties.getRequestBudget();
+    final RequestBudget requestBudget = new RequestBudget(budget.getRatio(), budget.getMaxTokens());
+    Gauge.builder("product.repository.request.budget", requestBudget, RequestBudget::availableTokens)
+        .description("The number of retries and hedges the shared upstream budget currently allows")
+        .register(meterRegistry);
+    return requestBudget;
+  }
+
+  @Bean
+  public HedgingPolicy productDetailsHedgingPolicy(RequestBudget upstreamRequestBudget,
+      MeterRegistry meterRegistry) {
+    return new HedgingPolicy(this.properties.getHedging(), upstreamRequestBudget, meterRegistry);
+  }
+
+  @Bean
+  public RetryPolicy productRetryPolicy(RequestBudget upstreamRequestBudget, MeterRegistry meterRegistry) {
+    return new RetryPolicy(this.properties.getRetry(), upstreamRequestBudget, meterRegistry);
+  }
+
+  private WebClient createWebClient(final WebClient.Builder webClientBuilder,
+      final ConnectionProvider connectionProvider,
+      final ObjectProvider<ConditionalRequestFilter> conditionalRequestFilter) {
+    if (this.properties.isSmile()) {
+      webClientBuilder.defaultHeader(HttpHeaders.ACCEPT, SMILE_FIRST_ACCEPT);
+    }
+    conditionalRequestFilter.ifAvailable(webClientBuilder::filter);
     return webClientBuilder
         .baseUrl(this.properties.getProductBaseUrl())
-        .clientConnector(new ReactorClientHttpConnector(this.createHttpClient()))
+        .clientConnector(new ReactorClientHttpConnector(this.createHttpClient(connectionProvider)))
+        .build();
+  }
+
+  private ConnectionProvider createConnectionProvider(final RestClientProperties.Pool pool) {
+    return ConnectionProvider.builder(pool.getName())
+        .maxConnections(pool.getMaxConnections())
+        .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+        .maxIdleTime(pool.getMaxIdleTime())
+        .maxLifeTime(pool.getMaxLifeTime())
+        .evictInBackground(pool.getEvictInBackground())
+        .metrics(pool.isMetricsEnabled())
         .build();
   }
 
-  private HttpClient createHttpClient() {
-    return HttpClient.create()
+  private HttpClient createHttpClient(final ConnectionProvider connectionProvider) {
+    final HttpProtocol[] protocols = this.properties.isHttp2()
+        ? new HttpProtocol[] {HttpProtocol.H2C, HttpProtocol.HTTP11}
+        : new HttpProtocol[] {HttpProtocol.HTTP11};
+    return HttpClient.create(connectionProvider)
+        .protocol(protocols)
+        .keepAlive(this.properties.isKeepAlive())
         .responseTimeout(this.properties.getReadTimeout())
-        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) this.properties.getConnectTimeout().toMillis());
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) this.properties.getConnectTimeout().toMillis())
+        .option(ChannelOption.SO_KEEPALIVE, this.properties.isKeepAlive());
   }
 }
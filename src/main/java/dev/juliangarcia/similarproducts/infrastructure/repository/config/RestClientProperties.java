@@ -3,6 +3,7 @@ package dev.juliangarcia.similarproducts.infrastructure.repository.config;
 import java.time.Duration;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -15,4 +16,111 @@ public class RestClientProperties {
   private Duration readTimeout;
 
   private String productBaseUrl;
+
+  private Pool pool = new Pool();
+
+  private Pool similarIdsPool = new Pool("similar-ids-client", 100, 200);
+
+  private boolean http2;
+
+  private boolean keepAlive = true;
+
+  private boolean smile;
+
+  private Bulk bulk = new Bulk();
+
+  private Hedging hedging = new Hedging();
+
+  private Retry retry = new Retry();
+
+  private Budget requestBudget = new Budget();
+
+  private ConditionalRequests conditionalRequests = new ConditionalRequests();
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  public static class Pool {
+    private String name = "product-client";
+
+    private int maxConnections = 500;
+
+    private int pendingAcquireMaxCount = 1_000;
+
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    private Duration evictInBackground = Duration.ofSeconds(30);
+
+    private boolean metricsEnabled = true;
+
+    public Pool(String name, int maxConnections, int pendingAcquireMaxCount) {
+      this.name = name;
+      this.maxConnections = maxConnections;
+      this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class Bulk {
+    private boolean enabled;
+
+    private String path = "/products";
+
+    private Duration window = Duration.ofMillis(5);
+
+    private int maxBatchSize = 50;
+  }
+
+  @Getter
+  @Setter
+  public static class Hedging {
+    private boolean enabled;
+
+    private double percentile = 95;
+
+    private int windowSize = 1_000;
+
+    private Duration minDelay = Duration.ofMillis(20);
+
+    private Duration maxDelay = Duration.ofMillis(500);
+  }
+
+  @Getter
+  @Setter
+  public static class Retry {
+    private boolean enabled = true;
+
+    private int maxAttempts = 3;
+
+    private int similarIdsMaxAttempts = 2;
+
+    private Duration initialBackoff = Duration.ofMillis(50);
+
+    private Duration maxBackoff = Duration.ofSeconds(1);
+
+    private double multiplier = 2;
+  }
+
+  @Getter
+  @Setter
+  public static class Budget {
+    private double ratio = 0.1;
+
+    private int maxTokens = 10;
+  }
+
+  @Getter
+  @Setter
+  public static class ConditionalRequests {
+    private boolean enabled = true;
+
+    private long maximumWeight = 16_777_216;
+
+    private Duration timeToLive = Duration.ofHours(1);
+  }
 }
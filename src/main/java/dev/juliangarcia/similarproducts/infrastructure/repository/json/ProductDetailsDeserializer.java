@@ -0,0 +1,41 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.json;
+
+import java.io.IOException;
+import java.io.Serial;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+
+public class ProductDetailsDeserializer extends StdDeserializer<ProductDetails> {
+
+  @Serial
+  private static final long serialVersionUID = -1747372608065798485L;
+
+  public ProductDetailsDeserializer() {
+    super(ProductDetails.class);
+  }
+
+  @Override
+  public ProductDetails deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    if (parser.currentToken() == JsonToken.START_OBJECT) {
+      parser.nextToken();
+    }
+
+    final ProductDetails productDetails = new ProductDetails();
+    for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "id" -> productDetails.setProductId(parser.getValueAsString());
+        case "name" -> productDetails.setName(parser.getValueAsString());
+        case "price" -> productDetails.setPrice(parser.getValueAsDouble());
+        case "availability" -> productDetails.setAvailability(parser.getValueAsBoolean());
+        default -> parser.skipChildren();
+      }
+    }
+    return productDetails;
+  }
+}
@@ -0,0 +1,140 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.metrics;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.latency.LatencyRecorder;
+import dev.juliangarcia.similarproducts.infrastructure.latency.LatencyRecorders;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+public class TimedProductRepository implements ProductRepository {
+
+  static final String METRIC_NAME = "product.repository.calls";
+
+  static final String RECORDER_PREFIX = "product.repository.";
+
+  private final ProductRepository delegate;
+
+  private final Map<Outcome, Timer> similarProductsTimers;
+
+  private final Map<Outcome, Timer> productDetailsTimers;
+
+  private final LatencyRecorder similarProductsRecorder;
+
+  private final LatencyRecorder productDetailsRecorder;
+
+  public TimedProductRepository(ProductRepository delegate, MeterRegistry meterRegistry) {
+    this(delegate, meterRegistry, null);
+  }
+
+  public TimedProductRepository(ProductRepository delegate, MeterRegistry meterRegistry,
+      LatencyRecorders latencyRecorders) {
+    this.delegate = delegate;
+    this.similarProductsTimers = this.timers(meterRegistry, "similarProducts");
+    this.productDetailsTimers = this.timers(meterRegistry, "productDetails");
+    this.similarProductsRecorder = this.recorder(latencyRecorders, "similarProducts");
+    this.productDetailsRecorder = this.recorder(latencyRecorders, "productDetails");
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    return this.record(this.similarProductsTimers, this.similarProductsRecorder,
+        () -> this.delegate.findSimilarProductsById(productId));
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    return this.record(this.productDetailsTimers, this.productDetailsRecorder,
+        () -> this.delegate.findProductDetailsById(productId));
+  }
+
+  private <T> T record(final Map<Outcome, Timer> timers, final LatencyRecorder recorder, final Supplier<T> call) {
+    final long start = System.nanoTime();
+    Outcome outcome = Outcome.ERROR;
+    try {
+      final T result = call.get();
+      outcome = Outcome.SUCCESS;
+      return result;
+    } catch (final RuntimeException ex) {
+      outcome = Outcome.of(ex);
+      throw ex;
+    } finally {
+      final long elapsed = System.nanoTime() - start;
+      timers.get(outcome).record(elapsed, TimeUnit.NANOSECONDS);
+      if (recorder != null) {
+        recorder.record(elapsed);
+      }
+    }
+  }
+
+  private LatencyRecorder recorder(final LatencyRecorders latencyRecorders, final String operation) {
+    return latencyRecorders == null ? null : latencyRecorders.recorder(RECORDER_PREFIX + operation);
+  }
+
+  private Map<Outcome, Timer> timers(final MeterRegistry meterRegistry, final String operation) {
+    final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+    for (final Outcome outcome : Outcome.values()) {
+      timers.put(outcome, Timer.builder(METRIC_NAME)
+          .tag("operation", operation)
+          .tag("outcome", outcome.tag)
+          .description("Latency of each upstream product call attempt, excluding retries and backoff")
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+    return timers;
+  }
+
+  enum Outcome {
+    SUCCESS("success"),
+    NOT_FOUND("not_found"),
+    SERVER_ERROR("server_error"),
+    TIMEOUT("timeout"),
+    CONNECTION_ERROR("connection_error"),
+    CIRCUIT_OPEN("circuit_open"),
+    CANCELLED("cancelled"),
+    ERROR("error");
+
+    private final String tag;
+
+    Outcome(final String tag) {
+      this.tag = tag;
+    }
+
+    static Outcome of(final RuntimeException ex) {
+      if (ex instanceof ProductDetailNotFoundException || ex instanceof WebClientResponseException.NotFound) {
+        return NOT_FOUND;
+      }
+      if (ex instanceof ProductDetailErrorException
+          || ex instanceof WebClientResponseException responseException
+          && responseException.getStatusCode().is5xxServerError()) {
+        return SERVER_ERROR;
+      }
+      if (ex instanceof ProductDetailTimeoutException) {
+        return TIMEOUT;
+      }
+      if (ex instanceof ProductConnectionException) {
+        return CONNECTION_ERROR;
+      }
+      if (ex instanceof CallNotPermittedException) {
+        return CIRCUIT_OPEN;
+      }
+      if (ex instanceof CancellationException) {
+        return CANCELLED;
+      }
+      return ERROR;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class AdaptiveConcurrencyLimiter {
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition permitReleased = this.lock.newCondition();
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final double backoffRatio;
+
+  private final long latencyThresholdNanos;
+
+  private final int maxQueueSize;
+
+  private final long maxQueueWaitNanos;
+
+  private final Counter rejectedCounter;
+
+  private double limit;
+
+  private int inFlight;
+
+  private int queued;
+
+  public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    this.minLimit = properties.getMinLimit();
+    this.maxLimit = properties.getMaxLimit();
+    this.backoffRatio = properties.getBackoffRatio();
+    this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+    this.maxQueueSize = properties.getMaxQueueSize();
+    this.maxQueueWaitNanos = properties.getMaxQueueWait().toNanos();
+    this.limit = Math.clamp(properties.getInitialLimit(), this.minLimit, this.maxLimit);
+    this.rejectedCounter = Counter.builder("product.upstream.concurrency.rejected")
+        .description("The number of upstream calls rejected by the adaptive concurrency limit")
+        .register(meterRegistry);
+    Gauge.builder("product.upstream.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+        .description("The current adaptive limit of concurrent upstream calls")
+        .register(meterRegistry);
+    Gauge.builder("product.upstream.concurrency.in.flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+        .description("The number of upstream calls currently in flight")
+        .register(meterRegistry);
+    Gauge.builder("product.upstream.concurrency.queued", this, AdaptiveConcurrencyLimiter::getQueued)
+        .description("The number of upstream calls waiting for a permit")
+        .register(meterRegistry);
+  }
+
+  public Permit acquire() {
+    this.lock.lock();
+    try {
+      if (this.inFlight < this.currentLimit()) {
+        this.inFlight++;
+        return new Permit();
+      }
+      if (this.queued >= this.maxQueueSize) {
+        throw this.reject();
+      }
+      this.awaitPermit();
+      this.inFlight++;
+      return new Permit();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public int getLimit() {
+    this.lock.lock();
+    try {
+      return this.currentLimit();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    this.lock.lock();
+    try {
+      return this.inFlight;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public int getQueued() {
+    this.lock.lock();
+    try {
+      return this.queued;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void awaitPermit() {
+    this.queued++;
+    try {
+      long remaining = this.maxQueueWaitNanos;
+      while (this.inFlight >= this.currentLimit()) {
+        if (remaining <= 0) {
+          throw this.reject();
+        }
+        remaining = this.permitReleased.awaitNanos(remaining);
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ProductRequestCancelledException("Interrupted while waiting for an upstream call permit.");
+    } finally {
+      this.queued--;
+    }
+  }
+
+  private ProductServiceOverloadedException reject() {
+    this.rejectedCounter.increment();
+    return new ProductServiceOverloadedException("Too many concurrent calls to the product service.");
+  }
+
+  private int currentLimit() {
+    return (int) this.limit;
+  }
+
+  private void release(final Sample sample, final long latencyNanos) {
+    this.lock.lock();
+    try {
+      final int previousLimit = this.currentLimit();
+      if (sample == Sample.DROPPED || sample == Sample.SUCCESS && latencyNanos > this.latencyThresholdNanos) {
+        this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+      } else if (sample == Sample.SUCCESS && this.inFlight * 2 >= previousLimit) {
+        this.limit = Math.min(this.maxLimit, this.limit + 1);
+      }
+      this.inFlight--;
+
+      if (this.currentLimit() > previousLimit) {
+        this.permitReleased.signalAll();
+      } else {
+        this.permitReleased.signal();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private enum Sample {
+    SUCCESS,
+    DROPPED,
+    IGNORED
+  }
+
+  public final class Permit {
+
+    private final long start = System.nanoTime();
+
+    private Permit() {
+    }
+
+    public void onSuccess() {
+      AdaptiveConcurrencyLimiter.this.release(Sample.SUCCESS, System.nanoTime() - this.start);
+    }
+
+    public void onDropped() {
+      AdaptiveConcurrencyLimiter.this.release(Sample.DROPPED, System.nanoTime() - this.start);
+    }
+
+    public void onIgnored() {
+      AdaptiveConcurrencyLimiter.this.release(Sample.IGNORED, System.nanoTime() - this.start);
+    }
+  }
+}
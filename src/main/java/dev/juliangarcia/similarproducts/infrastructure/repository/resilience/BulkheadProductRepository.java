@@ -0,0 +1,66 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class BulkheadProductRepository implements ProductRepository {
+
+  static final String REJECTED_METRIC_NAME = "product.repository.bulkhead.rejected";
+
+  private final ProductRepository delegate;
+
+  private final Bulkhead similarProductsBulkhead;
+
+  private final Bulkhead productDetailsBulkhead;
+
+  private final Counter similarProductsRejections;
+
+  private final Counter productDetailsRejections;
+
+  public BulkheadProductRepository(ProductRepository delegate, Bulkhead similarProductsBulkhead,
+      Bulkhead productDetailsBulkhead, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.similarProductsBulkhead = similarProductsBulkhead;
+    this.productDetailsBulkhead = productDetailsBulkhead;
+    this.similarProductsRejections = this.rejections(meterRegistry, similarProductsBulkhead);
+    this.productDetailsRejections = this.rejections(meterRegistry, productDetailsBulkhead);
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    return this.isolate(this.similarProductsBulkhead, this.similarProductsRejections,
+        () -> this.delegate.findSimilarProductsById(productId));
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    return this.isolate(this.productDetailsBulkhead, this.productDetailsRejections,
+        () -> this.delegate.findProductDetailsById(productId));
+  }
+
+  private <T> T isolate(final Bulkhead bulkhead, final Counter rejections, final Supplier<T> call) {
+    if (!bulkhead.tryAcquirePermission()) {
+      rejections.increment();
+      throw new ProductServiceOverloadedException("Too many concurrent calls to " + bulkhead.getName() + ".");
+    }
+    try {
+      return call.get();
+    } finally {
+      bulkhead.onComplete();
+    }
+  }
+
+  private Counter rejections(final MeterRegistry meterRegistry, final Bulkhead bulkhead) {
+    return Counter.builder(REJECTED_METRIC_NAME)
+        .tag("bulkhead", bulkhead.getName())
+        .description("Upstream calls rejected because their bulkhead was full")
+        .register(meterRegistry);
+  }
+}
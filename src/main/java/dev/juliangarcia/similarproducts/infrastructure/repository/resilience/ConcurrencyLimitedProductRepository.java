@@ -0,0 +1,62 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+public class ConcurrencyLimitedProductRepository implements ProductRepository {
+
+  private final ProductRepository delegate;
+
+  private final AdaptiveConcurrencyLimiter limiter;
+
+  public ConcurrencyLimitedProductRepository(ProductRepository delegate, AdaptiveConcurrencyLimiter limiter) {
+    this.delegate = delegate;
+    this.limiter = limiter;
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    return this.delegate.findSimilarProductsById(productId);
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    return this.limit(() -> this.delegate.findProductDetailsById(productId));
+  }
+
+  private <T> T limit(final Supplier<T> call) {
+    final AdaptiveConcurrencyLimiter.Permit permit = this.limiter.acquire();
+    Runnable release = permit::onIgnored;
+    try {
+      final T result = call.get();
+      release = permit::onSuccess;
+      return result;
+    } catch (final ProductDetailNotFoundException | WebClientResponseException.NotFound ex) {
+      release = permit::onSuccess;
+      throw ex;
+    } catch (final RuntimeException ex) {
+      if (this.isOverloadSignal(ex)) {
+        release = permit::onDropped;
+      }
+      throw ex;
+    } finally {
+      release.run();
+    }
+  }
+
+  private boolean isOverloadSignal(final RuntimeException ex) {
+    return ex instanceof ProductDetailTimeoutException
+        || ex instanceof ProductConnectionException
+        || ex instanceof ProductDetailErrorException
+        || ex instanceof WebClientResponseException responseException
+        && responseException.getStatusCode().is5xxServerError();
+  }
+}
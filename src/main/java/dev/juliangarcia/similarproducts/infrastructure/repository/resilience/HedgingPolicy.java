@@ -0,0 +1,98 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.RestClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+public class HedgingPolicy {
+
+  private final RestClientProperties.Hedging properties;
+
+  private final LatencyTracker latencyTracker;
+
+  private final RequestBudget hedgeBudget;
+
+  private final Counter hedgeCounter;
+
+  private final Counter hedgeWinCounter;
+
+  private final LongSupplier nanoTime;
+
+  public HedgingPolicy(RestClientProperties.Hedging properties, RequestBudget hedgeBudget,
+      MeterRegistry meterRegistry) {
+    this(properties, hedgeBudget, meterRegistry, System::nanoTime);
+  }
+
+  HedgingPolicy(RestClientProperties.Hedging properties, RequestBudget hedgeBudget, MeterRegistry meterRegistry,
+      LongSupplier nanoTime) {
+    this.properties = properties;
+    this.nanoTime = nanoTime;
+    this.latencyTracker = new LatencyTracker(properties.getWindowSize(), properties.getPercentile());
+    this.hedgeBudget = hedgeBudget;
+    this.hedgeCounter = Counter.builder("product.details.hedge.requests")
+        .description("The number of hedged product details requests sent upstream")
+        .register(meterRegistry);
+    this.hedgeWinCounter = Counter.builder("product.details.hedge.wins")
+        .description("The number of hedged product details requests that answered before the original one")
+        .register(meterRegistry);
+    Gauge.builder("product.details.hedge.delay", this, policy -> policy.hedgeDelay().toMillis())
+        .baseUnit("milliseconds")
+        .description("The current delay before a product details request is hedged")
+        .register(meterRegistry);
+  }
+
+  public <T> Mono<T> hedge(final Supplier<Mono<T>> request) {
+    if (!this.properties.isEnabled()) {
+      return request.get();
+    }
+
+    return Mono.defer(() -> {
+      final long start = this.nanoTime.getAsLong();
+
+      final Mono<Attempt<T>> primary = request.get()
+          .doOnNext(value -> this.latencyTracker.record(this.nanoTime.getAsLong() - start))
+          .doOnCancel(() -> this.latencyTracker.record(this.nanoTime.getAsLong() - start))
+          .map(value -> new Attempt<>(value, false));
+      final Mono<Attempt<T>> hedged = Mono.delay(this.hedgeDelay())
+          .filter(tick -> this.hedgeBudget.tryAcquire())
+          .flatMap(tick -> {
+            this.hedgeCounter.increment();
+            return request.get().map(value -> new Attempt<>(value, true));
+          })
+          .onErrorResume(ex -> Mono.never())
+          .switchIfEmpty(Mono.never());
+
+      return Mono.firstWithSignal(primary, hedged)
+          .doOnNext(attempt -> {
+            if (attempt.hedged()) {
+              this.hedgeWinCounter.increment();
+            }
+          })
+          .map(Attempt::value);
+    });
+  }
+
+  Duration hedgeDelay() {
+    final long percentileNanos = this.latencyTracker.percentileNanos();
+    if (percentileNanos < 0) {
+      return this.properties.getMaxDelay();
+    }
+    final Duration delay = Duration.ofNanos(percentileNanos);
+    if (delay.compareTo(this.properties.getMinDelay()) < 0) {
+      return this.properties.getMinDelay();
+    }
+    if (delay.compareTo(this.properties.getMaxDelay()) > 0) {
+      return this.properties.getMaxDelay();
+    }
+    return delay;
+  }
+
+  private record Attempt<T>(T value, boolean hedged) {
+  }
+}
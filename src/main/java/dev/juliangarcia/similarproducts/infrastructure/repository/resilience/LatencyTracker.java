@@ -0,0 +1,47 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyTracker {
+
+  private final AtomicLongArray samples;
+
+  private final AtomicLong recorded = new AtomicLong();
+
+  private final double percentile;
+
+  private final int refreshInterval;
+
+  private volatile long percentileNanos = -1;
+
+  public LatencyTracker(int windowSize, double percentile) {
+    this.samples = new AtomicLongArray(windowSize);
+    this.percentile = percentile;
+    this.refreshInterval = Math.max(1, windowSize / 4);
+  }
+
+  public void record(final long latencyNanos) {
+    final long count = this.recorded.getAndIncrement();
+    this.samples.set((int) (count % this.samples.length()), latencyNanos);
+    if ((count + 1) % this.refreshInterval == 0) {
+      this.refresh(count + 1);
+    }
+  }
+
+  public long percentileNanos() {
+    return this.percentileNanos;
+  }
+
+  private void refresh(final long count) {
+    final int size = (int) Math.min(count, this.samples.length());
+    final long[] snapshot = new long[size];
+    for (int i = 0; i < size; i++) {
+      snapshot[i] = this.samples.get(i);
+    }
+    Arrays.sort(snapshot);
+    final int index = (int) Math.ceil(this.percentile / 100 * size) - 1;
+    this.percentileNanos = snapshot[Math.max(0, Math.min(index, size - 1))];
+  }
+}
@@ -0,0 +1,38 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RequestBudget {
+
+  private static final long SCALE = 1_000;
+
+  private final long depositPerRequest;
+
+  private final long maxBalance;
+
+  private final AtomicLong balance = new AtomicLong();
+
+  public RequestBudget(double ratio, int maxTokens) {
+    this.depositPerRequest = Math.round(ratio * SCALE);
+    this.maxBalance = maxTokens * SCALE;
+  }
+
+  public void recordRequest() {
+    this.balance.updateAndGet(current -> Math.min(this.maxBalance, current + this.depositPerRequest));
+  }
+
+  public boolean tryAcquire() {
+    long current;
+    do {
+      current = this.balance.get();
+      if (current < SCALE) {
+        return false;
+      }
+    } while (!this.balance.compareAndSet(current, current - SCALE));
+    return true;
+  }
+
+  public double availableTokens() {
+    return (double) this.balance.get() / SCALE;
+  }
+}
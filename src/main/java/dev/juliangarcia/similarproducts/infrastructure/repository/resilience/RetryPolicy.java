@@ -0,0 +1,103 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import dev.juliangarcia.similarproducts.application.concurrent.RequestDeadline;
+import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.RestClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+public class RetryPolicy {
+
+  static final String METRIC_NAME = "product.repository.retries";
+
+  private final RestClientProperties.Retry properties;
+
+  private final RequestBudget retryBudget;
+
+  private final Counter retriedCounter;
+
+  private final Counter budgetExhaustedCounter;
+
+  private final Counter deadlineExceededCounter;
+
+  public RetryPolicy(RestClientProperties.Retry properties, RequestBudget retryBudget, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.retryBudget = retryBudget;
+    this.retriedCounter = this.counter(meterRegistry, "retried");
+    this.budgetExhaustedCounter = this.counter(meterRegistry, "budget_exhausted");
+    this.deadlineExceededCounter = this.counter(meterRegistry, "deadline_exceeded");
+  }
+
+  public <T> T execute(final Supplier<T> call) {
+    return this.execute(this.properties.getMaxAttempts(), call);
+  }
+
+  public <T> T execute(final int maxAttempts, final Supplier<T> call) {
+    this.retryBudget.recordRequest();
+    if (!this.properties.isEnabled()) {
+      return call.get();
+    }
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return call.get();
+      } catch (final RuntimeException ex) {
+        if (attempt >= maxAttempts || !this.isRetryable(ex)) {
+          throw ex;
+        }
+        final long backoffNanos = this.backoffNanos(attempt);
+        if (RequestDeadline.remainingNanos() <= backoffNanos) {
+          this.deadlineExceededCounter.increment();
+          throw ex;
+        }
+        if (!this.retryBudget.tryAcquire()) {
+          this.budgetExhaustedCounter.increment();
+          throw ex;
+        }
+        this.retriedCounter.increment();
+        this.sleep(backoffNanos);
+      }
+    }
+  }
+
+  long backoffNanos(final int attempt) {
+    final double exponential = this.properties.getInitialBackoff().toNanos()
+        * Math.pow(this.properties.getMultiplier(), attempt - 1);
+    final long cap = (long) Math.min(exponential, this.properties.getMaxBackoff().toNanos());
+    return ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+
+  boolean isRetryable(final RuntimeException ex) {
+    return ex instanceof ProductDetailTimeoutException
+        || ex instanceof ProductConnectionException
+        || ex instanceof ProductDetailErrorException
+        || ex instanceof WebClientResponseException responseException
+        && (responseException.getStatusCode().is5xxServerError()
+        || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value());
+  }
+
+  private void sleep(final long nanos) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ProductRequestCancelledException("Product request was cancelled while backing off.");
+    }
+  }
+
+  private Counter counter(final MeterRegistry meterRegistry, final String result) {
+    return Counter.builder(METRIC_NAME)
+        .tag("result", result)
+        .description("Upstream retry decisions for failed product calls")
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,32 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+
+public class RetryingProductRepository implements ProductRepository {
+
+  private final ProductRepository delegate;
+
+  private final RetryPolicy retryPolicy;
+
+  private final int similarIdsMaxAttempts;
+
+  public RetryingProductRepository(ProductRepository delegate, RetryPolicy retryPolicy, int similarIdsMaxAttempts) {
+    this.delegate = delegate;
+    this.retryPolicy = retryPolicy;
+    this.similarIdsMaxAttempts = similarIdsMaxAttempts;
+  }
+
+  @Override
+  public List<String> findSimilarProductsById(String productId) {
+    return this.retryPolicy.execute(this.similarIdsMaxAttempts,
+        () -> this.delegate.findSimilarProductsById(productId));
+  }
+
+  @Override
+  public ProductDetails findProductDetailsById(String productId) {
+    return this.retryPolicy.execute(() -> this.delegate.findProductDetailsById(productId));
+  }
+}
@@ -0,0 +1,166 @@
+package dev.juliangarcia.similarproducts.infrastructure.warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.juliangarcia.similarproducts.application.concurrent.FanOutScope;
+import dev.juliangarcia.similarproducts.application.provider.TaskExecutorProvider;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.SimilarIdsCache;
+import dev.juliangarcia.similarproducts.infrastructure.warmup.config.WarmUpProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true")
+public class CacheWarmUp {
+
+  private final ProductRepository productRepository;
+
+  private final TaskExecutorProvider executorProvider;
+
+  private final ObjectProvider<SimilarIdsCache> similarIdsCache;
+
+  private final WarmUpProperties properties;
+
+  private final AtomicInteger processed = new AtomicInteger();
+
+  private final AtomicInteger failed = new AtomicInteger();
+
+  private volatile int total = -1;
+
+  private volatile boolean finished;
+
+  public CacheWarmUp(ProductRepository productRepository, TaskExecutorProvider executorProvider,
+      ObjectProvider<SimilarIdsCache> similarIdsCache, WarmUpProperties properties) {
+    this.productRepository = productRepository;
+    this.executorProvider = executorProvider;
+    this.similarIdsCache = similarIdsCache;
+    this.properties = properties;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    this.executorProvider.getExecutor().execute(this::run);
+  }
+
+  public boolean isReady() {
+    final int expected = this.total;
+    return this.finished || expected >= 0 && this.processed.get() >= Math.ceil(expected * this.properties.getTarget());
+  }
+
+  public int getTotal() {
+    return Math.max(this.total, 0);
+  }
+
+  public int getProcessed() {
+    return this.processed.get();
+  }
+
+  public int getFailed() {
+    return this.failed.get();
+  }
+
+  @PreDestroy
+  public void saveSnapshot() {
+    final Path snapshot = this.properties.getSnapshot();
+    final SimilarIdsCache cache = this.similarIdsCache.getIfAvailable();
+    if (snapshot == null || cache == null) {
+      return;
+    }
+
+    final List<String> productIds = cache.hottestProductIds(this.properties.getMaxIds());
+    if (productIds.isEmpty()) {
+      return;
+    }
+    try {
+      Files.createDirectories(snapshot.toAbsolutePath().getParent());
+      Files.write(snapshot, productIds, StandardCharsets.UTF_8);
+      log.info("Saved {} hot product ids to {}.", productIds.size(), snapshot);
+    } catch (final IOException ex) {
+      log.warn("Unable to save hot product ids to {}.", snapshot, ex);
+    }
+  }
+
+  void run() {
+    try {
+      final List<String> productIds = this.loadHotProductIds();
+      this.total = productIds.size();
+      log.info("Warming up caches with {} hot product ids.", productIds.size());
+
+      final long start = System.nanoTime();
+      final long deadline = start + this.properties.getMaxDuration().toNanos();
+      final long interval = TimeUnit.SECONDS.toNanos(1) / Math.max(this.properties.getRate(), 1);
+      for (int i = 0; i < productIds.size(); i++) {
+        if (System.nanoTime() > deadline) {
+          log.warn("Warm-up stopped after {} of {} product ids: max duration reached.", i, productIds.size());
+          return;
+        }
+        this.warmUp(productIds.get(i));
+        TimeUnit.NANOSECONDS.sleep(start + (i + 1) * interval - System.nanoTime());
+      }
+      log.info("Warm-up finished: {} product ids, {} failed.", productIds.size(), this.failed.get());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (final RuntimeException ex) {
+      log.warn("Warm-up aborted.", ex);
+    } finally {
+      this.finished = true;
+    }
+  }
+
+  private void warmUp(final String productId) {
+    try {
+      final List<String> similarProductIds = this.productRepository.findSimilarProductsById(productId);
+      try (FanOutScope<ProductDetails> scope = new FanOutScope<>(this.executorProvider.getExecutor())) {
+        similarProductIds.stream().distinct()
+            .forEach(id -> scope.fork(() -> this.productRepository.findProductDetailsById(id)));
+        scope.join();
+      }
+    } catch (final RuntimeException ex) {
+      this.failed.incrementAndGet();
+      log.debug("Warm-up failed for productId {}.", productId, ex);
+    } finally {
+      this.processed.incrementAndGet();
+    }
+  }
+
+  private List<String> loadHotProductIds() {
+    final Path snapshot = this.properties.getSnapshot();
+    try {
+      if (snapshot != null && Files.isReadable(snapshot)) {
+        return this.parse(Files.readAllLines(snapshot, StandardCharsets.UTF_8));
+      }
+      if (this.properties.getHotIds() != null && this.properties.getHotIds().exists()) {
+        try (InputStream inputStream = this.properties.getHotIds().getInputStream()) {
+          return this.parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList());
+        }
+      }
+    } catch (final IOException ex) {
+      log.warn("Unable to read hot product ids.", ex);
+    }
+    return List.of();
+  }
+
+  private List<String> parse(final List<String> lines) {
+    return lines.stream()
+        .map(String::trim)
+        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+        .distinct()
+        .limit(this.properties.getMaxIds())
+        .toList();
+  }
+}
@@ -0,0 +1,31 @@
+package dev.juliangarcia.similarproducts.infrastructure.warmup;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+  private final ObjectProvider<CacheWarmUp> cacheWarmUp;
+
+  public WarmUpHealthIndicator(ObjectProvider<CacheWarmUp> cacheWarmUp) {
+    this.cacheWarmUp = cacheWarmUp;
+  }
+
+  @Override
+  public Health health() {
+    final CacheWarmUp warmUp = this.cacheWarmUp.getIfAvailable();
+    if (warmUp == null) {
+      return Health.up().withDetail("enabled", false).build();
+    }
+
+    final Health.Builder health = warmUp.isReady() ? Health.up() : Health.outOfService();
+    return health
+        .withDetail("total", warmUp.getTotal())
+        .withDetail("processed", warmUp.getProcessed())
+        .withDetail("failed", warmUp.getFailed())
+        .build();
+  }
+}
@@ -0,0 +1,9 @@
+package dev.juliangarcia.similarproducts.infrastructure.warmup.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfig {
+}
@@ -0,0 +1,28 @@
+package dev.juliangarcia.similarproducts.infrastructure.warmup.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "warm-up")
+public class WarmUpProperties {
+  private boolean enabled;
+
+  private Resource hotIds;
+
+  private Path snapshot;
+
+  private int maxIds = 10_000;
+
+  private int rate = 100;
+
+  private double target = 0.9;
+
+  private Duration maxDuration = Duration.ofMinutes(2);
+}
@@ -0,0 +1,132 @@
+package dev.juliangarcia.similarproducts.application.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FanOutScopeTest {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final CountDownLatch siblingStarted = new CountDownLatch(1);
+
+  private final CountDownLatch siblingInterrupted = new CountDownLatch(1);
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void shouldReturnResultsInForkOrder() {
+    try (FanOutScope<String> scope = new FanOutScope<>(this.executor)) {
+      scope.fork(() -> {
+        Thread.sleep(50);
+        return "first";
+      });
+      scope.fork(() -> "second");
+
+      assertThat(scope.join()).containsExactly("first", "second");
+    }
+  }
+
+  @Test
+  void shouldPropagateTheRequestDeadlineToForkedTasks() {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+
+    final List<Long> deadlines = RequestDeadline.callUntil(deadline, () -> {
+      try (FanOutScope<Long> scope = new FanOutScope<>(this.executor)) {
+        scope.fork(RequestDeadline::current);
+        return scope.join();
+      }
+    });
+
+    assertThat(deadlines).containsExactly(deadline);
+    assertThat(RequestDeadline.current()).isNull();
+  }
+
+  @Test
+  void shouldPropagateTheStalenessTrackerToForkedTasks() {
+    final StalenessTracker tracker = new StalenessTracker();
+
+    StalenessTracker.callTracking(tracker, () -> {
+      try (FanOutScope<Object> scope = new FanOutScope<>(this.executor)) {
+        scope.fork(() -> {
+          StalenessTracker.markStale();
+          return "stale";
+        });
+        return scope.join();
+      }
+    });
+
+    assertThat(tracker.isStale()).isTrue();
+    assertThat(StalenessTracker.current()).isNull();
+  }
+
+  @Test
+  void shouldCancelSiblingsAndRethrowTheFirstFailure() throws InterruptedException {
+    final ProductDetailErrorException failure = new ProductDetailErrorException();
+    try (FanOutScope<String> scope = new FanOutScope<>(this.executor)) {
+      final Future<String> slow = scope.fork(this::sleepUntilInterrupted);
+      this.siblingStarted.await();
+      scope.fork(() -> {
+        throw failure;
+      });
+
+      assertThatThrownBy(scope::join).isInstanceOf(CompletionException.class).hasCause(failure);
+      assertThat(slow.isCancelled()).isTrue();
+    }
+    assertThat(this.siblingInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldCancelUnfinishedTasksWhenTheDeadlineIsReached() throws InterruptedException {
+    try (FanOutScope<String> scope = new FanOutScope<>(this.executor)) {
+      final Future<String> fast = scope.fork(() -> "fast");
+      final Future<String> slow = scope.fork(this::sleepUntilInterrupted);
+      this.siblingStarted.await();
+
+      scope.joinUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100));
+
+      assertThat(fast.resultNow()).isEqualTo("fast");
+      assertThat(slow.isCancelled()).isTrue();
+    }
+    assertThat(this.siblingInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldCancelAllTasksWhenTheCallerIsInterrupted() throws InterruptedException {
+    try (FanOutScope<String> scope = new FanOutScope<>(this.executor)) {
+      final Future<String> slow = scope.fork(this::sleepUntilInterrupted);
+      this.siblingStarted.await();
+      Thread.currentThread().interrupt();
+
+      assertThatThrownBy(scope::join).isInstanceOf(ProductRequestCancelledException.class);
+      assertThat(Thread.interrupted()).isTrue();
+      assertThat(slow.isCancelled()).isTrue();
+    }
+    assertThat(this.siblingInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private String sleepUntilInterrupted() {
+    this.siblingStarted.countDown();
+    try {
+      Thread.sleep(10_000);
+    } catch (final InterruptedException ex) {
+      this.siblingInterrupted.countDown();
+    }
+    return "slow";
+  }
+}
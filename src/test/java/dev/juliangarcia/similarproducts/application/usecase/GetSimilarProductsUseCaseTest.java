@@ -1,6 +1,7 @@
 package dev.juliangarcia.similarproducts.application.usecase;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
@@ -11,14 +12,24 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import dev.juliangarcia.similarproducts.application.provider.TaskExecutorProvider;
 import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.entity.SimilarProductsResult;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
 import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,11 +45,14 @@ class GetSimilarProductsUseCaseTest {
   @Mock
   private TaskExecutorProvider executorProvider;
 
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   private GetSimilarProductsUseCase useCase;
 
   @BeforeEach
   void setUp() {
-    this.useCase = new GetSimilarProductsUseCase(this.productRepository, this.executorProvider);
+    this.useCase = new GetSimilarProductsUseCase(this.productRepository, this.executorProvider,
+        this.meterRegistry);
   }
 
   @Test
@@ -102,6 +116,175 @@ class GetSimilarProductsUseCaseTest {
     verify(mockExecutor, times(3)).execute(any(Runnable.class));
   }
 
+  @Test
+  void shouldCancelOutstandingCallsWhenOneProductFails() throws InterruptedException {
+    final String productId = "1";
+    final ProductDetailErrorException failure = new ProductDetailErrorException();
+    final CountDownLatch slowCallStarted = new CountDownLatch(1);
+    final CountDownLatch slowCallInterrupted = new CountDownLatch(1);
+
+    this.mockExecutor();
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(List.of("2", "3"));
+    when(this.productRepository.findProductDetailsById("2")).thenAnswer(invocation -> {
+      slowCallStarted.countDown();
+      try {
+        Thread.sleep(10_000);
+      } catch (final InterruptedException ex) {
+        slowCallInterrupted.countDown();
+      }
+      return null;
+    });
+    when(this.productRepository.findProductDetailsById("3")).thenAnswer(invocation -> {
+      slowCallStarted.await(5, TimeUnit.SECONDS);
+      throw failure;
+    });
+
+    assertThatThrownBy(() -> this.useCase.execute(productId))
+        .isInstanceOf(CompletionException.class)
+        .hasCause(failure);
+    assertThat(slowCallInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldRecordStageTimingsAndFanOutSize() {
+    final String productId = "1";
+    this.mockExecutor();
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(Arrays.asList("2", "3", "2"));
+    when(this.productRepository.findProductDetailsById(anyString()))
+        .thenReturn(this.createProductDetails("2", "Product 2", 10.0, true));
+
+    this.useCase.execute(productId);
+
+    assertThat(this.meterRegistry.get("similar.products.stage").tag("stage", "similar_ids").timer().count())
+        .isEqualTo(1);
+    assertThat(this.meterRegistry.get("similar.products.stage").tag("stage", "product_details").timer().count())
+        .isEqualTo(1);
+    assertThat(this.meterRegistry.get("similar.products.fanout").summary().totalAmount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReturnAllProductsWhenTheyArriveWithinLatencyBudget() {
+    final String productId = "1";
+    final ProductDetails product2 = this.createProductDetails("2", "Product 2", 10.0, true);
+    final ProductDetails product3 = this.createProductDetails("3", "Product 3", 20.0, true);
+
+    this.mockExecutor();
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(List.of("2", "3"));
+    when(this.productRepository.findProductDetailsById("2")).thenReturn(product2);
+    when(this.productRepository.findProductDetailsById("3")).thenReturn(product3);
+
+    final SimilarProductsResult result = this.useCase.execute(productId, Duration.ofSeconds(5));
+
+    assertThat(result.productDetails()).containsExactly(product2, product3);
+    assertThat(result.omittedProductIds()).isEmpty();
+    assertThat(result.isPartial()).isFalse();
+  }
+
+  @Test
+  void shouldOmitFailedAndLateProductsAndCancelOutstandingCalls() throws InterruptedException {
+    final String productId = "1";
+    final ProductDetails product2 = this.createProductDetails("2", "Product 2", 10.0, true);
+    final CountDownLatch slowCallInterrupted = new CountDownLatch(1);
+
+    this.mockExecutor();
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(List.of("2", "3", "4"));
+    when(this.productRepository.findProductDetailsById("2")).thenReturn(product2);
+    when(this.productRepository.findProductDetailsById("3")).thenThrow(new ProductDetailErrorException());
+    when(this.productRepository.findProductDetailsById("4")).thenAnswer(invocation -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (final InterruptedException ex) {
+        slowCallInterrupted.countDown();
+      }
+      return null;
+    });
+
+    final SimilarProductsResult result = this.useCase.execute(productId, Duration.ofMillis(200));
+
+    assertThat(result.productDetails()).containsExactly(product2);
+    assertThat(result.omittedProductIds()).containsExactly("3", "4");
+    assertThat(result.isPartial()).isTrue();
+    assertThat(slowCallInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldGiveUpOnSlowSimilarIdsWhenTheLatencyBudgetIsSpent() throws InterruptedException {
+    final String productId = "1";
+    final CountDownLatch slowCallInterrupted = new CountDownLatch(1);
+
+    this.mockExecutor();
+    when(this.productRepository.findSimilarProductsById(productId)).thenAnswer(invocation -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (final InterruptedException ex) {
+        slowCallInterrupted.countDown();
+      }
+      return List.of("2");
+    });
+
+    final long start = System.nanoTime();
+    assertThatThrownBy(() -> this.useCase.execute(productId, Duration.ofMillis(200)))
+        .isInstanceOf(ProductDetailTimeoutException.class);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    assertThat(slowCallInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    verify(this.productRepository, never()).findProductDetailsById(anyString());
+  }
+
+  @Test
+  void shouldPropagateSimilarIdsFailuresWithinLatencyBudget() {
+    final String productId = "1";
+
+    this.mockExecutor();
+    when(this.productRepository.findSimilarProductsById(productId)).thenThrow(new ProductDetailNotFoundException());
+
+    assertThatThrownBy(() -> this.useCase.execute(productId, Duration.ofSeconds(5)))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+  }
+
+  @Test
+  void shouldStreamProductsAsSoonAsTheyComplete() {
+    final String productId = "1";
+    final ProductDetails product2 = this.createProductDetails("2", "Product 2", 10.0, true);
+    final ProductDetails product3 = this.createProductDetails("3", "Product 3", 20.0, true);
+    final List<ProductDetails> streamed = new ArrayList<>();
+
+    this.mockExecutor();
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(List.of("2", "3"));
+    when(this.productRepository.findProductDetailsById("2")).thenAnswer(invocation -> {
+      Thread.sleep(200);
+      return product2;
+    });
+    when(this.productRepository.findProductDetailsById("3")).thenReturn(product3);
+
+    final List<String> omitted = this.useCase.stream(productId, null, false, streamed::add);
+
+    assertThat(streamed).containsExactly(product3, product2);
+    assertThat(omitted).isEmpty();
+  }
+
+  @Test
+  void shouldStreamProductsInOrderAndReportOmittedOnes() {
+    final String productId = "1";
+    final ProductDetails product2 = this.createProductDetails("2", "Product 2", 10.0, true);
+    final ProductDetails product4 = this.createProductDetails("4", "Product 4", 30.0, true);
+    final List<ProductDetails> streamed = new ArrayList<>();
+
+    this.mockExecutor();
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(List.of("2", "3", "4"));
+    when(this.productRepository.findProductDetailsById("2")).thenAnswer(invocation -> {
+      Thread.sleep(200);
+      return product2;
+    });
+    when(this.productRepository.findProductDetailsById("3")).thenThrow(new ProductDetailErrorException());
+    when(this.productRepository.findProductDetailsById("4")).thenReturn(product4);
+
+    final List<String> omitted = this.useCase.stream(productId, Duration.ofSeconds(5), true, streamed::add);
+
+    assertThat(streamed).containsExactly(product2, product4);
+    assertThat(omitted).containsExactly("3");
+  }
+
   private ProductDetails createProductDetails(String id, String name, double price, boolean availability) {
     final ProductDetails productDetails = new ProductDetails();
     productDetails.setProductId(id);
@@ -0,0 +1,124 @@
+package dev.juliangarcia.similarproducts.application.usecase;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.repository.ReactiveProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetSimilarProductsUseCaseTest {
+
+  @Mock
+  private ReactiveProductRepository productRepository;
+
+  private ReactiveGetSimilarProductsUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    this.useCase = new ReactiveGetSimilarProductsUseCase(this.productRepository, 2);
+  }
+
+  @Test
+  void shouldReturnSimilarProductsInOriginalOrder() {
+    final String productId = "1";
+    final ProductDetails product2 = this.createProductDetails("2", "Product 2", 10.0, true);
+    final ProductDetails product3 = this.createProductDetails("3", "Product 3", 20.0, true);
+    final ProductDetails product4 = this.createProductDetails("4", "Product 4", 30.0, true);
+
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(Mono.just(List.of("2", "3", "4")));
+    when(this.productRepository.findProductDetailsById("2"))
+        .thenReturn(Mono.just(product2).delayElement(Duration.ofMillis(50)));
+    when(this.productRepository.findProductDetailsById("3")).thenReturn(Mono.just(product3));
+    when(this.productRepository.findProductDetailsById("4")).thenReturn(Mono.just(product4));
+
+    StepVerifier.create(this.useCase.execute(productId))
+        .expectNext(List.of(product2, product3, product4))
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldReturnEmptyListWhenNoSimilarProducts() {
+    final String productId = "1";
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(Mono.just(List.of()));
+
+    StepVerifier.create(this.useCase.execute(productId))
+        .expectNext(List.of())
+        .verifyComplete();
+
+    verify(this.productRepository, never()).findProductDetailsById(anyString());
+  }
+
+  @Test
+  void shouldRemoveDuplicateSimilarProductIds() {
+    final String productId = "1";
+    final ProductDetails product2 = this.createProductDetails("2", "Product 2", 10.0, true);
+    final ProductDetails product3 = this.createProductDetails("3", "Product 3", 20.0, false);
+
+    when(this.productRepository.findSimilarProductsById(productId))
+        .thenReturn(Mono.just(Arrays.asList("2", "3", "2", "3")));
+    when(this.productRepository.findProductDetailsById("2")).thenReturn(Mono.just(product2));
+    when(this.productRepository.findProductDetailsById("3")).thenReturn(Mono.just(product3));
+
+    StepVerifier.create(this.useCase.execute(productId))
+        .expectNext(List.of(product2, product3))
+        .verifyComplete();
+
+    verify(this.productRepository, times(1)).findProductDetailsById("2");
+    verify(this.productRepository, times(1)).findProductDetailsById("3");
+  }
+
+  @Test
+  void shouldPropagateDetailErrors() {
+    final String productId = "1";
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(Mono.just(List.of("2")));
+    when(this.productRepository.findProductDetailsById("2"))
+        .thenReturn(Mono.error(new ProductDetailNotFoundException()));
+
+    StepVerifier.create(this.useCase.execute(productId))
+        .expectError(ProductDetailNotFoundException.class)
+        .verify();
+  }
+
+  @Test
+  void shouldStreamProductsAsTheyCompleteAndSkipFailedOnes() {
+    final String productId = "1";
+    final ProductDetails product2 = this.createProductDetails("2", "Product 2", 10.0, true);
+    final ProductDetails product4 = this.createProductDetails("4", "Product 4", 30.0, true);
+
+    when(this.productRepository.findSimilarProductsById(productId)).thenReturn(Mono.just(List.of("2", "3", "4")));
+    when(this.productRepository.findProductDetailsById("2"))
+        .thenReturn(Mono.just(product2).delayElement(Duration.ofMillis(50)));
+    when(this.productRepository.findProductDetailsById("3")).thenReturn(Mono.error(new ProductDetailErrorException()));
+    when(this.productRepository.findProductDetailsById("4")).thenReturn(Mono.just(product4));
+
+    StepVerifier.create(this.useCase.stream(productId, false))
+        .expectNext(product4, product2)
+        .verifyComplete();
+  }
+
+  private ProductDetails createProductDetails(String id, String name, double price, boolean availability) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName(name);
+    productDetails.setPrice(price);
+    productDetails.setAvailability(availability);
+    return productDetails;
+  }
+}
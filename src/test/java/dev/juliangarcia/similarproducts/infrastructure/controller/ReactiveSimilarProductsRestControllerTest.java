@@ -0,0 +1,108 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.application.usecase.ReactiveGetSimilarProductsUseCase;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.infrastructure.controller.config.ControllerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebFluxTest(controllers = ReactiveSimilarProductsRestController.class, properties = "similar-products.mode=reactive")
+@Import(ControllerConfig.class)
+class ReactiveSimilarProductsRestControllerTest {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @MockitoBean
+  private ReactiveGetSimilarProductsUseCase getSimilarProductsUseCase;
+
+  @Test
+  void shouldReturnSimilarProductsSuccessfully() {
+    final String productId = "1";
+    final List<ProductDetails> productDetailsList = List.of(this.createProductDetails("2", "Product 2", 10.0, true));
+
+    when(this.getSimilarProductsUseCase.execute(productId)).thenReturn(Mono.just(productDetailsList));
+
+    this.webTestClient.get().uri("/product/{productId}/similar", productId)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$[0].id").isEqualTo("2")
+        .jsonPath("$[0].name").isEqualTo("Product 2")
+        .jsonPath("$[0].price").isEqualTo(10.0)
+        .jsonPath("$[0].availability").isEqualTo(true);
+
+    verify(this.getSimilarProductsUseCase).execute(productId);
+  }
+
+  @Test
+  void shouldReturn304WhenETagMatches() {
+    final String productId = "1";
+    final List<ProductDetails> productDetailsList = List.of(this.createProductDetails("2", "Product 2", 10.0, true));
+    when(this.getSimilarProductsUseCase.execute(productId)).thenReturn(Mono.just(productDetailsList));
+    final String eTag = this.webTestClient.get().uri("/product/{productId}/similar", productId)
+        .exchange()
+        .expectHeader().exists(HttpHeaders.CACHE_CONTROL)
+        .returnResult(String.class)
+        .getResponseHeaders().getETag();
+
+    this.webTestClient.get().uri("/product/{productId}/similar", productId)
+        .ifNoneMatch(eTag)
+        .exchange()
+        .expectStatus().isNotModified()
+        .expectBody().isEmpty();
+  }
+
+  @Test
+  void shouldStreamSimilarProductsAsNdjson() {
+    final String productId = "1";
+    when(this.getSimilarProductsUseCase.stream(productId, false)).thenReturn(Flux.just(
+        this.createProductDetails("2", "Product 2", 10.0, true),
+        this.createProductDetails("3", "Product 3", 20.0, false)));
+
+    this.webTestClient.get().uri("/product/{productId}/similar/stream", productId)
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(String.class).isEqualTo("""
+            {"id":"2","name":"Product 2","price":10.0,"availability":true}
+            {"id":"3","name":"Product 3","price":20.0,"availability":false}
+            """);
+  }
+
+  @Test
+  void shouldReturn404WhenProductNotFound() {
+    final String productId = "999";
+
+    when(this.getSimilarProductsUseCase.execute(productId))
+        .thenReturn(Mono.error(new ProductDetailNotFoundException()));
+
+    this.webTestClient.get().uri("/product/{productId}/similar", productId)
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody(String.class).isEqualTo("Product Not found");
+  }
+
+  private ProductDetails createProductDetails(String id, String name, double price, boolean availability) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName(name);
+    productDetails.setPrice(price);
+    productDetails.setAvailability(availability);
+    return productDetails;
+  }
+}
@@ -8,6 +8,7 @@ import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionExcept
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -62,6 +63,17 @@ class SimilarProductsControllerAdviceTest {
     assertThat(response.getBody()).isEqualTo("Connection error");
   }
 
+  @Test
+  void shouldHandleProductServiceOverloadedException() {
+    final ProductServiceOverloadedException exception = new ProductServiceOverloadedException("Overloaded");
+
+    final ResponseEntity<String> response = this.controllerAdvice.handleCompletionException(
+        new CompletionException(exception));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(response.getBody()).isEqualTo("Overloaded");
+  }
+
   @Test
   void shouldHandleCompletionExceptionWithProductDetailNotFoundException() {
     final ProductDetailNotFoundException cause = new ProductDetailNotFoundException();
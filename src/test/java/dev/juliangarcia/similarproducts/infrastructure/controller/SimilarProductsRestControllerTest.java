@@ -1,30 +1,53 @@
 package dev.juliangarcia.similarproducts.infrastructure.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.juliangarcia.similarproducts.application.concurrent.StalenessTracker;
 import dev.juliangarcia.similarproducts.application.usecase.GetSimilarProductsUseCase;
 import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.entity.SimilarProductsResult;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
-import dev.juliangarcia.similarproducts.infrastructure.controller.dto.ProductDetailDto;
-import dev.juliangarcia.similarproducts.infrastructure.controller.mapper.ProductDetailDtoMapper;
+import dev.juliangarcia.similarproducts.infrastructure.controller.config.ControllerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(SimilarProductsRestController.class)
+@Import({ControllerConfig.class, SimpleMeterRegistry.class})
 class SimilarProductsRestControllerTest {
 
+  private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
   @Autowired
   private MockMvc mockMvc;
 
@@ -34,21 +57,14 @@ class SimilarProductsRestControllerTest {
   @MockitoBean
   private GetSimilarProductsUseCase getSimilarProductsUseCase;
 
-  @MockitoBean
-  private ProductDetailDtoMapper mapper;
-
   @Test
   void shouldReturnSimilarProductsSuccessfully() throws Exception {
     final String productId = "1";
     final List<ProductDetails> productDetailsList = Arrays.asList(
         this.createProductDetails("2", "Product 2", 10.0, true),
         this.createProductDetails("3", "Product 3", 20.0, false));
-    final List<ProductDetailDto> expectedDtoList = Arrays.asList(
-        this.createProductDetailDto("2", "Product 2", 10.0, true),
-        this.createProductDetailDto("3", "Product 3", 20.0, false));
 
     when(this.getSimilarProductsUseCase.execute(productId)).thenReturn(productDetailsList);
-    when(this.mapper.toDto(productDetailsList)).thenReturn(expectedDtoList);
 
     this.mockMvc.perform(get("/product/{productId}/similar", productId))
         .andExpect(status().isOk())
@@ -63,17 +79,73 @@ class SimilarProductsRestControllerTest {
         .andExpect(jsonPath("$[1].availability").value(false));
 
     verify(this.getSimilarProductsUseCase).execute(productId);
-    verify(this.mapper).toDto(productDetailsList);
+  }
+
+  @Test
+  void shouldReturnSimilarProductsAsSmileWhenRequested() throws Exception {
+    final String productId = "1";
+    when(this.getSimilarProductsUseCase.execute(productId))
+        .thenReturn(List.of(this.createProductDetails("2", "Product 2", 10.0, true)));
+
+    final byte[] body = this.mockMvc.perform(get("/product/{productId}/similar", productId)
+            .accept(SMILE))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(SMILE))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    final JsonNode products = new ObjectMapper(new SmileFactory()).readTree(body);
+    assertThat(products.get(0).get("id").asText()).isEqualTo("2");
+    assertThat(products.get(0).get("price").asDouble()).isEqualTo(10.0);
+  }
+
+  @Test
+  void shouldReturnCachingHeadersWithSimilarProducts() throws Exception {
+    final String productId = "1";
+    when(this.getSimilarProductsUseCase.execute(productId))
+        .thenReturn(List.of(this.createProductDetails("2", "Product 2", 10.0, true)));
+
+    this.mockMvc.perform(get("/product/{productId}/similar", productId))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"")))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, stale-while-revalidate=30"))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+  }
+
+  @Test
+  void shouldReturn304WhenETagMatches() throws Exception {
+    final String productId = "1";
+    when(this.getSimilarProductsUseCase.execute(productId))
+        .thenReturn(List.of(this.createProductDetails("2", "Product 2", 10.0, true)));
+    final String eTag = this.mockMvc.perform(get("/product/{productId}/similar", productId))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    this.mockMvc.perform(get("/product/{productId}/similar", productId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void shouldReturnSimilarProductsWhenETagNoLongerMatches() throws Exception {
+    final String productId = "1";
+    when(this.getSimilarProductsUseCase.execute(productId))
+        .thenReturn(List.of(this.createProductDetails("2", "Product 2", 10.0, true)));
+    final String eTag = this.mockMvc.perform(get("/product/{productId}/similar", productId))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    when(this.getSimilarProductsUseCase.execute(productId))
+        .thenReturn(List.of(this.createProductDetails("2", "Product 2", 12.0, true)));
+
+    this.mockMvc.perform(get("/product/{productId}/similar", productId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].price").value(12.0));
   }
 
   @Test
   void shouldReturnEmptyListWhenNoSimilarProducts() throws Exception {
     final String productId = "1";
     final List<ProductDetails> emptyList = List.of();
-    final List<ProductDetailDto> emptyDtoList = List.of();
 
     when(this.getSimilarProductsUseCase.execute(productId)).thenReturn(emptyList);
-    when(this.mapper.toDto(emptyList)).thenReturn(emptyDtoList);
 
     this.mockMvc.perform(get("/product/{productId}/similar", productId))
         .andExpect(status().isOk())
@@ -81,7 +153,6 @@ class SimilarProductsRestControllerTest {
         .andExpect(jsonPath("$").isEmpty());
 
     verify(this.getSimilarProductsUseCase).execute(productId);
-    verify(this.mapper).toDto(emptyList);
   }
 
   @Test
@@ -126,6 +197,125 @@ class SimilarProductsRestControllerTest {
     verify(this.getSimilarProductsUseCase).execute(productId);
   }
 
+  @Test
+  void shouldReturnPartialResultWithinLatencyBudget() throws Exception {
+    final String productId = "1";
+    final List<ProductDetails> productDetailsList = List.of(this.createProductDetails("2", "Product 2", 10.0, true));
+
+    when(this.getSimilarProductsUseCase.execute(productId, Duration.ofMillis(250)))
+        .thenReturn(new SimilarProductsResult(productDetailsList, List.of("3", "4")));
+
+    this.mockMvc.perform(get("/product/{productId}/similar", productId)
+            .header(SimilarProductsRestController.LATENCY_BUDGET_HEADER, "250"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(SimilarProductsRestController.OMITTED_PRODUCTS_HEADER, "3,4"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+        .andExpect(jsonPath("$[0].id").value("2"))
+        .andExpect(jsonPath("$[1]").doesNotExist());
+
+    verify(this.getSimilarProductsUseCase, never()).execute(anyString());
+  }
+
+  @Test
+  void shouldNotMarkCompleteResultWithinLatencyBudget() throws Exception {
+    final String productId = "1";
+    final List<ProductDetails> productDetailsList = List.of(this.createProductDetails("2", "Product 2", 10.0, true));
+
+    when(this.getSimilarProductsUseCase.execute(productId, Duration.ofMillis(250)))
+        .thenReturn(new SimilarProductsResult(productDetailsList, List.of()));
+
+    this.mockMvc.perform(get("/product/{productId}/similar", productId)
+            .header(SimilarProductsRestController.LATENCY_BUDGET_HEADER, "250"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(SimilarProductsRestController.OMITTED_PRODUCTS_HEADER))
+        .andExpect(jsonPath("$[0].id").value("2"));
+  }
+
+  @Test
+  void shouldMarkStaleResultsAsUncacheable() throws Exception {
+    final String productId = "1";
+    when(this.getSimilarProductsUseCase.execute(productId)).thenAnswer(invocation -> {
+      StalenessTracker.markStale();
+      return List.of(this.createProductDetails("2", "Product 2", 10.0, true));
+    });
+
+    this.mockMvc.perform(get("/product/{productId}/similar", productId))
+        .andExpect(status().isOk())
+        .andExpect(header().string(SimilarProductsRestController.STALE_HEADER, "true"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+        .andExpect(jsonPath("$[0].id").value("2"));
+  }
+
+  @Test
+  void shouldSendTheAgeOfTheOldestCachedProduct() throws Exception {
+    final String productId = "1";
+    when(this.getSimilarProductsUseCase.execute(productId)).thenAnswer(invocation -> {
+      StalenessTracker.recordAge(Duration.ofSeconds(7));
+      StalenessTracker.recordAge(Duration.ofSeconds(3));
+      return List.of(this.createProductDetails("2", "Product 2", 10.0, true));
+    });
+
+    this.mockMvc.perform(get("/product/{productId}/similar", productId))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.AGE, "7"));
+  }
+
+  @Test
+  void shouldStreamSimilarProductsAsNdjson() throws Exception {
+    final String productId = "1";
+    this.mockStream(productId, List.of("4"));
+
+    this.mockMvc.perform(get("/product/{productId}/similar/stream", productId)
+            .accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string("""
+            {"id":"2","name":"Product 2","price":10.0,"availability":true}
+            {"id":"3","name":"Product 3","price":20.0,"availability":false}
+            """));
+  }
+
+  @Test
+  void shouldStreamSimilarProductsAsServerSentEvents() throws Exception {
+    final String productId = "1";
+    this.mockStream(productId, List.of("4"));
+
+    this.mockMvc.perform(get("/product/{productId}/similar/stream", productId)
+            .param("ordered", "true")
+            .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(content().string(startsWith("data:{\"id\":\"2\"")))
+        .andExpect(content().string(endsWith("event:omitted\ndata:[\"4\"]\n\n")));
+
+    verify(this.getSimilarProductsUseCase).stream(eq(productId), isNull(), eq(true), any());
+  }
+
+  @Test
+  void shouldReturn404BeforeStreamingWhenProductNotFound() throws Exception {
+    final String productId = "999";
+    when(this.getSimilarProductsUseCase.stream(eq(productId), isNull(), eq(false), any()))
+        .thenThrow(new ProductDetailNotFoundException());
+
+    this.mockMvc.perform(get("/product/{productId}/similar/stream", productId)
+            .accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(status().isNotFound());
+  }
+
+  private void mockStream(final String productId, final List<String> omittedProductIds) {
+    final ProductDetails product2 = this.createProductDetails("2", "Product 2", 10.0, true);
+    final ProductDetails product3 = this.createProductDetails("3", "Product 3", 20.0, false);
+    when(this.getSimilarProductsUseCase.stream(eq(productId), isNull(), anyBoolean(), any()))
+        .thenAnswer(invocation -> {
+          final Consumer<ProductDetails> consumer = invocation.getArgument(3);
+          consumer.accept(product2);
+          consumer.accept(product3);
+          return omittedProductIds;
+        });
+  }
+
   private ProductDetails createProductDetails(String id, String name, double price, boolean availability) {
     final ProductDetails productDetails = new ProductDetails();
     productDetails.setProductId(id);
@@ -134,13 +324,4 @@ class SimilarProductsRestControllerTest {
     productDetails.setAvailability(availability);
     return productDetails;
   }
-
-  private ProductDetailDto createProductDetailDto(String id, String name, double price, boolean availability) {
-    final ProductDetailDto dto = new ProductDetailDto();
-    dto.setId(id);
-    dto.setName(name);
-    dto.setPrice(price);
-    dto.setAvailability(availability);
-    return dto;
-  }
 }
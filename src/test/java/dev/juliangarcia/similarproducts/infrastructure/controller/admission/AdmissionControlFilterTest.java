@@ -0,0 +1,74 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlFilterTest {
+
+  @Mock
+  private AdmissionController admissionController;
+
+  @Mock
+  private FilterChain filterChain;
+
+  private AdmissionControlFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    this.filter = new AdmissionControlFilter(this.admissionController, Duration.ofMillis(1500));
+  }
+
+  @Test
+  void shouldPassAdmittedRequestsAndReleaseTheSlot() throws Exception {
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/1/similar");
+    request.addHeader(AdmissionControlFilter.PRIORITY_HEADER, "critical");
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+    when(this.admissionController.tryAcquire(RequestPriority.CRITICAL)).thenReturn(true);
+
+    this.filter.doFilter(request, response, this.filterChain);
+
+    verify(this.filterChain).doFilter(request, response);
+    verify(this.admissionController).release();
+  }
+
+  @Test
+  void shouldShedRejectedRequestsWithRetryAfter() throws Exception {
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/1/similar");
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+    when(this.admissionController.tryAcquire(RequestPriority.NORMAL)).thenReturn(false);
+
+    this.filter.doFilter(request, response, this.filterChain);
+
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+    verify(this.filterChain, never()).doFilter(any(), any());
+    verify(this.admissionController, never()).release();
+  }
+
+  @Test
+  void shouldNotApplyToOtherPaths() throws Exception {
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    this.filter.doFilter(request, response, this.filterChain);
+
+    verify(this.filterChain).doFilter(request, response);
+    verifyNoInteractions(this.admissionController);
+  }
+}
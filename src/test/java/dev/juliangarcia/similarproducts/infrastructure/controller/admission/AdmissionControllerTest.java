@@ -0,0 +1,133 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import dev.juliangarcia.similarproducts.infrastructure.controller.config.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControllerTest {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private AdmissionProperties properties;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    this.properties = new AdmissionProperties();
+    this.properties.setMaxConcurrent(1);
+    this.properties.setMaxQueueSize(1);
+    this.properties.setCriticalQueueWait(Duration.ofSeconds(5));
+    this.properties.setNormalQueueWait(Duration.ofSeconds(5));
+    this.properties.setLowQueueWait(Duration.ZERO);
+    this.meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void shouldAdmitRequestsUpToTheConcurrencyLimit() {
+    final AdmissionController controller = this.createController();
+
+    assertThat(controller.tryAcquire(RequestPriority.NORMAL)).isTrue();
+    assertThat(controller.getInFlight()).isEqualTo(1);
+
+    controller.release();
+    assertThat(controller.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldRejectLowPriorityRequestsImmediatelyWhenSaturated() {
+    final AdmissionController controller = this.createController();
+    controller.tryAcquire(RequestPriority.NORMAL);
+
+    assertThat(controller.tryAcquire(RequestPriority.LOW)).isFalse();
+    assertThat(this.rejected("low")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldAdmitQueuedRequestWhenASlotIsReleased() throws Exception {
+    final AdmissionController controller = this.createController();
+    controller.tryAcquire(RequestPriority.NORMAL);
+
+    final CompletableFuture<Boolean> queued = this.submit(controller, RequestPriority.NORMAL);
+    this.awaitQueued(controller, 1);
+    controller.release();
+
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(controller.getInFlight()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectQueuedRequestWhenTheQueueWaitElapses() throws Exception {
+    this.properties.setNormalQueueWait(Duration.ofMillis(20));
+    final AdmissionController controller = this.createController();
+    controller.tryAcquire(RequestPriority.NORMAL);
+
+    final CompletableFuture<Boolean> queued = this.submit(controller, RequestPriority.NORMAL);
+
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isFalse();
+    assertThat(controller.getQueued()).isZero();
+    assertThat(this.rejected("normal")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldEvictLowerPriorityWaiterWhenTheQueueIsFull() throws Exception {
+    final AdmissionController controller = this.createController();
+    controller.tryAcquire(RequestPriority.NORMAL);
+
+    final CompletableFuture<Boolean> normal = this.submit(controller, RequestPriority.NORMAL);
+    this.awaitQueued(controller, 1);
+    final CompletableFuture<Boolean> critical = this.submit(controller, RequestPriority.CRITICAL);
+
+    assertThat(normal.get(5, TimeUnit.SECONDS)).isFalse();
+    this.awaitQueued(controller, 1);
+    controller.release();
+    assertThat(critical.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldRejectRequestWhenTheQueueIsFullOfHigherOrEqualPriority() throws Exception {
+    final AdmissionController controller = this.createController();
+    controller.tryAcquire(RequestPriority.NORMAL);
+
+    final CompletableFuture<Boolean> critical = this.submit(controller, RequestPriority.CRITICAL);
+    this.awaitQueued(controller, 1);
+
+    assertThat(controller.tryAcquire(RequestPriority.NORMAL)).isFalse();
+    controller.release();
+    assertThat(critical.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private AdmissionController createController() {
+    return new AdmissionController(this.properties, this.meterRegistry);
+  }
+
+  private CompletableFuture<Boolean> submit(final AdmissionController controller, final RequestPriority priority) {
+    return CompletableFuture.supplyAsync(() -> controller.tryAcquire(priority), this.executor);
+  }
+
+  private void awaitQueued(final AdmissionController controller, final int expected) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (controller.getQueued() != expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  private double rejected(final String priority) {
+    return this.meterRegistry.get("admission.rejected").tag("priority", priority).counter().count();
+  }
+}
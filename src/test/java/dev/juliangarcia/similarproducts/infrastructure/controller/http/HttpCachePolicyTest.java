@@ -0,0 +1,95 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.infrastructure.controller.config.SimilarProductsProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+class HttpCachePolicyTest {
+
+  private final HttpCachePolicy httpCachePolicy = new HttpCachePolicy(new SimilarProductsProperties.HttpCache());
+
+  @Test
+  void shouldComputeTheSameETagForEqualResults() {
+    final List<ProductDetails> first = List.of(this.createProductDetails("1", "Shirt", 9.99, true));
+    final List<ProductDetails> second = List.of(this.createProductDetails("1", "Shirt", 9.99, true));
+
+    assertThat(this.jsonETag(first)).isEqualTo(this.jsonETag(second)).matches("\"[0-9a-f]+\"");
+  }
+
+  @Test
+  void shouldComputeADifferentETagWhenAnyFieldOrTheOrderChanges() {
+    final ProductDetails shirt = this.createProductDetails("1", "Shirt", 9.99, true);
+    final ProductDetails dress = this.createProductDetails("2", "Dress", 19.99, false);
+    final String eTag = this.jsonETag(List.of(shirt, dress));
+
+    assertThat(List.of(
+        this.jsonETag(List.of(dress, shirt)),
+        this.jsonETag(List.of(this.createProductDetails("1", "Shirt", 9.98, true), dress)),
+        this.jsonETag(List.of(this.createProductDetails("1", "Shirt", 9.99, false), dress)),
+        this.jsonETag(List.of(this.createProductDetails("1", null, 9.99, true), dress)),
+        this.jsonETag(List.of(this.createProductDetails("1S", "hirt", 9.99, true), dress)),
+        this.jsonETag(List.of(shirt))))
+        .doesNotContain(eTag)
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldComputeADifferentETagForEachRepresentation() {
+    final List<ProductDetails> productDetails = List.of(this.createProductDetails("1", "Shirt", 9.99, true));
+    final MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+    final ResponseEntity<List<ProductDetails>> json = this.httpCachePolicy.cacheable(productDetails,
+        MediaType.parseMediaTypes("application/x-jackson-smile;q=0.5, application/json"), Duration.ZERO);
+    final ResponseEntity<List<ProductDetails>> binary = this.httpCachePolicy.cacheable(productDetails,
+        List.of(smile), Duration.ZERO);
+
+    assertThat(json.getHeaders().getETag())
+        .isEqualTo(this.jsonETag(productDetails))
+        .isNotEqualTo(binary.getHeaders().getETag());
+    assertThat(binary.getHeaders().getETag()).isEqualTo(this.httpCachePolicy.eTag(productDetails, smile));
+    assertThat(this.httpCachePolicy.representation(List.of())).isEqualTo(MediaType.APPLICATION_JSON);
+    assertThat(this.httpCachePolicy.representation(List.of(MediaType.ALL))).isEqualTo(MediaType.APPLICATION_JSON);
+  }
+
+  @Test
+  void shouldSendTheAgeOfTheOldestCachedProduct() {
+    final ResponseEntity<List<ProductDetails>> response = this.httpCachePolicy.cacheable(List.of(), List.of(),
+        Duration.ofMillis(12_700));
+
+    assertThat(response.getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("12");
+  }
+
+  @Test
+  void shouldOmitCachingHeadersWhenDisabled() {
+    final SimilarProductsProperties.HttpCache properties = new SimilarProductsProperties.HttpCache();
+    properties.setEnabled(false);
+    properties.setMaxAge(Duration.ofMinutes(1));
+
+    final ResponseEntity<List<ProductDetails>> response = new HttpCachePolicy(properties)
+        .cacheable(List.of(), List.of(), Duration.ZERO);
+
+    assertThat(response.getHeaders().getETag()).isNull();
+    assertThat(response.getHeaders().getCacheControl()).isNull();
+  }
+
+  private String jsonETag(final List<ProductDetails> productDetails) {
+    return this.httpCachePolicy.eTag(productDetails, MediaType.APPLICATION_JSON);
+  }
+
+  private ProductDetails createProductDetails(String id, String name, double price, boolean availability) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName(name);
+    productDetails.setPrice(price);
+    productDetails.setAvailability(availability);
+    return productDetails;
+  }
+}
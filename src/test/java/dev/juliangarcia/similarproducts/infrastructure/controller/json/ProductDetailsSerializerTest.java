@@ -0,0 +1,36 @@
+package dev.juliangarcia.similarproducts.infrastructure.controller.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import org.junit.jupiter.api.Test;
+
+class ProductDetailsSerializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(
+      new SimpleModule().addSerializer(ProductDetails.class, new ProductDetailsSerializer()));
+
+  @Test
+  void shouldWriteProductDetailsInTheApiFormat() throws Exception {
+    final String json = this.objectMapper.writeValueAsString(List.of(
+        this.createProductDetails("1", "Shirt", 9.99, true),
+        this.createProductDetails("2", null, 0, false)));
+
+    assertThat(json).isEqualTo("""
+        [{"id":"1","name":"Shirt","price":9.99,"availability":true},\
+        {"id":"2","name":null,"price":0.0,"availability":false}]""");
+  }
+
+  private ProductDetails createProductDetails(String id, String name, double price, boolean availability) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName(name);
+    productDetails.setPrice(price);
+    productDetails.setAvailability(availability);
+    return productDetails;
+  }
+}
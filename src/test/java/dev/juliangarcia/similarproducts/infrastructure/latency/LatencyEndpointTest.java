@@ -0,0 +1,49 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import dev.juliangarcia.similarproducts.infrastructure.latency.config.LatencyRecorderProperties;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LatencyEndpointTest {
+
+  private LatencyRecorders recorders;
+
+  private LatencyEndpoint endpoint;
+
+  @BeforeEach
+  void setUp() {
+    this.recorders = new LatencyRecorders(new LatencyRecorderProperties());
+    this.endpoint = new LatencyEndpoint(this.recorders);
+    this.recorders.recorder("request").record(TimeUnit.MILLISECONDS.toNanos(40));
+    this.recorders.sample();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSummarizeEveryRecorderInMilliseconds() {
+    final Map<String, Object> latencies = this.endpoint.latencies();
+
+    final Map<String, Object> request = (Map<String, Object>) latencies.get("request");
+    final Map<String, Object> interval = (Map<String, Object>) request.get("interval");
+    assertThat(interval).containsEntry("count", 1L).containsKeys("p50Ms", "p99.99Ms", "maxMs");
+    assertThat((double) interval.get("p99Ms")).isBetween(39.9, 40.1);
+  }
+
+  @Test
+  void shouldExportTheCompressedHistogramOfASingleRecorder() throws Exception {
+    final Map<String, Object> latency = this.endpoint.latency("request");
+
+    final byte[] encoded = Base64.getDecoder().decode((String) latency.get("cumulativeHistogram"));
+    final Histogram histogram = Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded), 0);
+    assertThat(histogram.getTotalCount()).isEqualTo(1);
+    assertThat(this.endpoint.latency("unknown")).isNull();
+  }
+}
@@ -0,0 +1,56 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+class LatencyRecorderTest {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+  @Test
+  void shouldMoveRecordedValuesIntoIntervalAndCumulativeHistograms() {
+    final LatencyRecorder recorder = new LatencyRecorder("test", HIGHEST_TRACKABLE_MICROS, 3, 0);
+    recorder.record(TimeUnit.MILLISECONDS.toNanos(10));
+    recorder.record(TimeUnit.MILLISECONDS.toNanos(20));
+
+    final Histogram first = recorder.sample();
+    recorder.record(TimeUnit.MILLISECONDS.toNanos(30));
+    recorder.sample();
+
+    assertThat(first.getTotalCount()).isEqualTo(2);
+    assertThat(first.getTag()).isEqualTo("test");
+    assertThat(recorder.getLastInterval().getTotalCount()).isEqualTo(1);
+    assertThat(recorder.getLastInterval().valuesAreEquivalent(recorder.getLastInterval().getMaxValue(), 30_000))
+        .isTrue();
+    assertThat(recorder.getCumulative().getTotalCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldClampValuesOutsideTheTrackableRange() {
+    final LatencyRecorder recorder = new LatencyRecorder("test", HIGHEST_TRACKABLE_MICROS, 3, 0);
+    recorder.record(TimeUnit.MINUTES.toNanos(5));
+    recorder.record(-1);
+
+    final Histogram interval = recorder.sample();
+
+    assertThat(interval.getTotalCount()).isEqualTo(2);
+    assertThat(interval.getMinValue()).isZero();
+    assertThat(interval.valuesAreEquivalent(interval.getMaxValue(), HIGHEST_TRACKABLE_MICROS)).isTrue();
+  }
+
+  @Test
+  void shouldBackfillStalledMeasurementsWhenAnExpectedIntervalIsConfigured() {
+    final LatencyRecorder recorder = new LatencyRecorder("test", HIGHEST_TRACKABLE_MICROS, 3,
+        TimeUnit.MILLISECONDS.toMicros(10));
+    recorder.record(TimeUnit.MILLISECONDS.toNanos(100));
+
+    final Histogram interval = recorder.sample();
+
+    assertThat(interval.getTotalCount()).isEqualTo(10);
+    assertThat(interval.getValueAtPercentile(50)).isBetween(49_000L, 61_000L);
+  }
+}
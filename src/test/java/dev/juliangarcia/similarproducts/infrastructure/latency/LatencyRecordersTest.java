@@ -0,0 +1,62 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.juliangarcia.similarproducts.infrastructure.latency.config.LatencyRecorderProperties;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LatencyRecordersTest {
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  void shouldReturnTheSameRecorderForTheSameName() {
+    final LatencyRecorders recorders = new LatencyRecorders(new LatencyRecorderProperties());
+
+    final LatencyRecorder recorder = recorders.recorder("similar.products.request");
+
+    assertThat(recorders.recorder("similar.products.request")).isSameAs(recorder);
+    assertThat(recorders.find("similar.products.request")).isSameAs(recorder);
+    assertThat(recorders.find("unknown")).isNull();
+  }
+
+  @Test
+  void shouldWriteTaggedIntervalHistogramsToTheLogFile() throws Exception {
+    final LatencyRecorderProperties properties = new LatencyRecorderProperties();
+    properties.setInterval(Duration.ofHours(1));
+    properties.setLogFile(this.directory.resolve("latency.hlog"));
+    final LatencyRecorders recorders = new LatencyRecorders(properties);
+    recorders.recorder("a").record(TimeUnit.MILLISECONDS.toNanos(5));
+    recorders.recorder("b").record(TimeUnit.MILLISECONDS.toNanos(7));
+    recorders.start();
+
+    recorders.sample();
+    recorders.recorder("a").record(TimeUnit.MILLISECONDS.toNanos(9));
+    recorders.close();
+
+    final List<EncodableHistogram> histograms = this.read(properties.getLogFile());
+    assertThat(histograms).extracting(EncodableHistogram::getTag).containsExactly("a", "b", "a", "b");
+    assertThat(histograms.get(2).getMaxValueAsDouble()).isBetween(8_990.0, 9_010.0);
+  }
+
+  private List<EncodableHistogram> read(final Path logFile) throws FileNotFoundException {
+    final HistogramLogReader reader = new HistogramLogReader(logFile.toFile());
+    final List<EncodableHistogram> histograms = new ArrayList<>();
+    for (EncodableHistogram histogram = reader.nextIntervalHistogram(); histogram != null;
+        histogram = reader.nextIntervalHistogram()) {
+      histograms.add(histogram);
+    }
+    return histograms;
+  }
+}
@@ -0,0 +1,55 @@
+package dev.juliangarcia.similarproducts.infrastructure.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class LatencyRecordingFilterTest {
+
+  @Mock
+  private FilterChain filterChain;
+
+  private LatencyRecorder recorder;
+
+  private LatencyRecordingFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    this.recorder = new LatencyRecorder("request", TimeUnit.MINUTES.toMicros(1), 3, 0);
+    this.filter = new LatencyRecordingFilter(this.recorder);
+  }
+
+  @Test
+  void shouldRecordSimilarProductsRequestsEvenWhenTheyFail() throws Exception {
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/1/similar");
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+    doThrow(new IllegalStateException()).when(this.filterChain).doFilter(any(), any());
+
+    this.filter.doFilter(new MockHttpServletRequest("GET", "/product/1/similar/stream"), response, (req, res) -> { });
+    assertThatThrownBy(() -> this.filter.doFilter(request, response, this.filterChain))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(this.recorder.sample().getTotalCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldIgnoreOtherPaths() throws Exception {
+    this.filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+        this.filterChain);
+
+    assertThat(this.recorder.sample().getTotalCount()).isZero();
+  }
+}
@@ -4,21 +4,33 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import dev.juliangarcia.similarproducts.application.provider.TaskExecutorProvider;
 import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
 import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
 import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
-import dev.juliangarcia.similarproducts.infrastructure.repository.entity.ProductDetailsEntity;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.RestClientProperties;
 import dev.juliangarcia.similarproducts.infrastructure.repository.entity.SimilarProductsEntity;
 import dev.juliangarcia.similarproducts.infrastructure.repository.mapper.RepositoryEntityMapper;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.HedgingPolicy;
+import dev.juliangarcia.similarproducts.infrastructure.repository.resilience.RequestBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.netty.handler.timeout.ReadTimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +42,7 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,11 +63,18 @@ class ProductAdapterTest {
   @Mock
   private RepositoryEntityMapper mapper;
 
+  private final Executor executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final TaskExecutorProvider executorProvider = () -> this.executor;
+
+  private RestClientProperties properties;
+
   private ProductAdapter productAdapter;
 
   @BeforeEach
   void setUp() {
-    this.productAdapter = new ProductAdapter(this.webClient, this.mapper);
+    this.properties = new RestClientProperties();
+    this.productAdapter = this.createProductAdapter();
   }
 
   @Test
@@ -74,6 +94,24 @@ class ProductAdapterTest {
     assertThat(result).hasSize(3).containsExactly("2", "3", "4");
   }
 
+  @Test
+  void shouldFetchSimilarIdsThroughTheirOwnWebClient() {
+    final WebClient similarIdsWebClient = mock(WebClient.class);
+    final SimilarProductsEntity entity = new SimilarProductsEntity(List.of("2"));
+    this.productAdapter = new ProductAdapter(this.webClient, similarIdsWebClient, this.mapper, this.properties,
+        this.executorProvider, new HedgingPolicy(this.properties.getHedging(), new RequestBudget(0.1, 10),
+        new SimpleMeterRegistry()));
+
+    when(similarIdsWebClient.get()).thenReturn(this.requestHeadersUriSpec);
+    when(this.requestHeadersUriSpec.uri(anyString(), any(Object.class))).thenReturn(this.requestHeadersSpec);
+    when(this.requestHeadersSpec.retrieve()).thenReturn(this.responseSpec);
+    when(this.responseSpec.bodyToMono(SimilarProductsEntity.class)).thenReturn(Mono.just(entity));
+    when(this.mapper.toDomain(entity)).thenReturn(List.of("2"));
+
+    assertThat(this.productAdapter.findSimilarProductsById("1")).containsExactly("2");
+    verifyNoInteractions(this.webClient);
+  }
+
   @Test
   void shouldReturnEmptyListWhenNoSimilarProducts() {
     final String productId = "1";
@@ -122,15 +160,13 @@ class ProductAdapterTest {
   @Test
   void shouldReturnProductDetailsSuccessfully() {
     final String productId = "1";
-    final ProductDetailsEntity entity = this.createProductDetailsEntity("1", "Product 1", 10.0, true);
     final ProductDetails expected = this.createProductDetails("1", "Product 1", 10.0, true);
 
     when(this.webClient.get()).thenReturn(this.requestHeadersUriSpec);
     when(this.requestHeadersUriSpec.uri(anyString(), any(Object.class))).thenReturn(this.requestHeadersSpec);
     when(this.requestHeadersSpec.retrieve()).thenReturn(this.responseSpec);
     when(this.responseSpec.onStatus(any(), any())).thenReturn(this.responseSpec);
-    when(this.responseSpec.bodyToMono(ProductDetailsEntity.class)).thenReturn(Mono.just(entity));
-    when(this.mapper.toDomain(entity)).thenReturn(expected);
+    when(this.responseSpec.bodyToMono(ProductDetails.class)).thenReturn(Mono.just(expected));
 
     final ProductDetails result = this.productAdapter.findProductDetailsById(productId);
 
@@ -155,7 +191,7 @@ class ProductAdapterTest {
       final Predicate<HttpStatusCode> statusPredicate = invocationOnMock.getArgument(0);
       if (statusPredicate.test(HttpStatus.NOT_FOUND)) {
         final Function<ClientResponse, Mono<? extends Throwable>> errorHandler = invocationOnMock.getArgument(1);
-        when(this.responseSpec.bodyToMono(ProductDetailsEntity.class)).thenReturn(errorHandler.apply(clientResponse).flatMap(Mono::error));
+        when(this.responseSpec.bodyToMono(ProductDetails.class)).thenReturn(errorHandler.apply(clientResponse).flatMap(Mono::error));
       }
       return this.responseSpec;
     });
@@ -178,7 +214,7 @@ class ProductAdapterTest {
       final Predicate<HttpStatusCode> statusPredicate = invocationOnMock.getArgument(0);
       if (statusPredicate.test(HttpStatus.INTERNAL_SERVER_ERROR)) {
         final Function<ClientResponse, Mono<? extends Throwable>> errorHandler = invocationOnMock.getArgument(1);
-        when(this.responseSpec.bodyToMono(ProductDetailsEntity.class)).thenReturn(errorHandler.apply(clientResponse).flatMap(Mono::error));
+        when(this.responseSpec.bodyToMono(ProductDetails.class)).thenReturn(errorHandler.apply(clientResponse).flatMap(Mono::error));
       }
       return this.responseSpec;
     });
@@ -196,7 +232,7 @@ class ProductAdapterTest {
     when(this.requestHeadersUriSpec.uri(anyString(), any(Object.class))).thenReturn(this.requestHeadersSpec);
     when(this.requestHeadersSpec.retrieve()).thenReturn(this.responseSpec);
     when(this.responseSpec.onStatus(any(), any())).thenReturn(this.responseSpec);
-    when(this.responseSpec.bodyToMono(ProductDetailsEntity.class))
+    when(this.responseSpec.bodyToMono(ProductDetails.class))
         .thenReturn(Mono.error(new ReadTimeoutException()));
 
     assertThatThrownBy(() -> this.productAdapter.findProductDetailsById(productId))
@@ -213,7 +249,7 @@ class ProductAdapterTest {
     when(this.requestHeadersUriSpec.uri(anyString(), any(Object.class))).thenReturn(this.requestHeadersSpec);
     when(this.requestHeadersSpec.retrieve()).thenReturn(this.responseSpec);
     when(this.responseSpec.onStatus(any(), any())).thenReturn(this.responseSpec);
-    when(this.responseSpec.bodyToMono(ProductDetailsEntity.class))
+    when(this.responseSpec.bodyToMono(ProductDetails.class))
         .thenReturn(Mono.error(requestException));
 
     assertThatThrownBy(() -> this.productAdapter.findProductDetailsById(productId))
@@ -221,13 +257,86 @@ class ProductAdapterTest {
         .hasMessageContaining("Error fetching product details.");
   }
 
-  private ProductDetailsEntity createProductDetailsEntity(String id, String name, double price, boolean availability) {
-    final ProductDetailsEntity entity = new ProductDetailsEntity();
-    entity.setId(id);
-    entity.setName(name);
-    entity.setPrice(price);
-    entity.setAvailability(availability);
-    return entity;
+  @Test
+  void shouldThrowNotFoundExceptionWhenBulkResponseMissesAProduct() {
+    this.enableBulk(1);
+
+    this.mockBulkResponses(Flux.empty());
+
+    assertThatThrownBy(() -> this.productAdapter.findProductDetailsById("999"))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+  }
+
+  @Test
+  void shouldFallBackToSingleCallsWhenTheBulkEndpointIsNotAvailable() {
+    this.enableBulk(1);
+    final ProductDetails expected = this.createProductDetails("1", "Product 1", 10.0, true);
+    final ClientResponse clientResponse = ClientResponse
+        .create(HttpStatus.METHOD_NOT_ALLOWED)
+        .build();
+
+    when(this.webClient.get()).thenReturn(this.requestHeadersUriSpec);
+    when(this.requestHeadersUriSpec.uri(anyString(), any(Object.class))).thenReturn(this.requestHeadersSpec);
+    when(this.requestHeadersSpec.retrieve()).thenReturn(this.responseSpec);
+    when(this.responseSpec.onStatus(any(), any())).thenAnswer(invocationOnMock -> {
+      final Predicate<HttpStatusCode> statusPredicate = invocationOnMock.getArgument(0);
+      if (statusPredicate.test(HttpStatus.METHOD_NOT_ALLOWED)) {
+        final Function<ClientResponse, Mono<? extends Throwable>> errorHandler = invocationOnMock.getArgument(1);
+        when(this.responseSpec.bodyToFlux(ProductDetails.class))
+            .thenReturn(errorHandler.apply(clientResponse).flatMapMany(Flux::error));
+      }
+      return this.responseSpec;
+    });
+    when(this.responseSpec.bodyToMono(ProductDetails.class)).thenReturn(Mono.just(expected));
+
+    assertThat(this.productAdapter.findProductDetailsById("1")).isEqualTo(expected);
+    assertThat(this.productAdapter.findProductDetailsById("1")).isEqualTo(expected);
+
+    verify(this.requestHeadersUriSpec, times(1)).uri(eq("/products?ids={ids}"), any(Object.class));
+    verify(this.requestHeadersUriSpec, times(2)).uri("/product/{id}", "1");
+  }
+
+  @Test
+  void shouldBatchSingleProductDetailsLookupsWhenBulkIsEnabled() {
+    this.enableBulk(2);
+    final ProductDetails entity1 = this.createProductDetails("1", "Product 1", 10.0, true);
+    final ProductDetails entity2 = this.createProductDetails("2", "Product 2", 20.0, false);
+
+    this.mockBulkResponses(Flux.just(entity1, entity2));
+
+    final List<ProductDetails> result = List.of("1", "2").stream()
+        .map(id -> CompletableFuture.supplyAsync(() -> this.productAdapter.findProductDetailsById(id),
+            this.executor))
+        .toList()
+        .stream()
+        .map(CompletableFuture::join)
+        .toList();
+
+    assertThat(result).extracting(ProductDetails::getProductId).containsExactly("1", "2");
+    verify(this.requestHeadersUriSpec, times(1)).uri(eq("/products?ids={ids}"), any(Object.class));
+  }
+
+  private void enableBulk(final int maxBatchSize) {
+    this.properties.getBulk().setEnabled(true);
+    this.properties.getBulk().setMaxBatchSize(maxBatchSize);
+    this.properties.getBulk().setWindow(Duration.ofSeconds(5));
+    this.productAdapter = this.createProductAdapter();
+  }
+
+  private ProductAdapter createProductAdapter() {
+    final HedgingPolicy hedgingPolicy = new HedgingPolicy(this.properties.getHedging(), new RequestBudget(0.1, 10),
+        new SimpleMeterRegistry());
+    return new ProductAdapter(this.webClient, this.webClient, this.mapper, this.properties, this.executorProvider,
+        hedgingPolicy);
+  }
+
+  @SafeVarargs
+  private void mockBulkResponses(final Flux<ProductDetails> first, final Flux<ProductDetails>... others) {
+    when(this.webClient.get()).thenReturn(this.requestHeadersUriSpec);
+    when(this.requestHeadersUriSpec.uri(anyString(), any(Object.class))).thenReturn(this.requestHeadersSpec);
+    when(this.requestHeadersSpec.retrieve()).thenReturn(this.responseSpec);
+    when(this.responseSpec.onStatus(any(), any())).thenReturn(this.responseSpec);
+    when(this.responseSpec.bodyToFlux(ProductDetails.class)).thenReturn(first, others);
   }
 
   private ProductDetails createProductDetails(String id, String name, double price, boolean availability) {
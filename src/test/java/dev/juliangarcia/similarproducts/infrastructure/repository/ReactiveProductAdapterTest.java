@@ -0,0 +1,135 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.infrastructure.repository.entity.SimilarProductsEntity;
+import dev.juliangarcia.similarproducts.infrastructure.repository.mapper.RepositoryEntityMapper;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductAdapterTest {
+
+  @Mock
+  private WebClient webClient;
+
+  @Mock
+  private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
+
+  @Mock
+  private WebClient.RequestHeadersSpec requestHeadersSpec;
+
+  @Mock
+  private WebClient.ResponseSpec responseSpec;
+
+  @Mock
+  private RepositoryEntityMapper mapper;
+
+  private ReactiveProductAdapter productAdapter;
+
+  @BeforeEach
+  void setUp() {
+    this.productAdapter = new ReactiveProductAdapter(this.webClient, this.webClient, this.mapper);
+    when(this.webClient.get()).thenReturn(this.requestHeadersUriSpec);
+    when(this.requestHeadersUriSpec.uri(anyString(), any(Object.class))).thenReturn(this.requestHeadersSpec);
+    when(this.requestHeadersSpec.retrieve()).thenReturn(this.responseSpec);
+  }
+
+  @Test
+  void shouldReturnSimilarProductIdsSuccessfully() {
+    final List<String> expectedIds = List.of("2", "3", "4");
+    final SimilarProductsEntity entity = new SimilarProductsEntity(expectedIds);
+
+    when(this.responseSpec.bodyToMono(SimilarProductsEntity.class)).thenReturn(Mono.just(entity));
+    when(this.mapper.toDomain(entity)).thenReturn(expectedIds);
+
+    StepVerifier.create(this.productAdapter.findSimilarProductsById("1"))
+        .expectNext(expectedIds)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldReturnEmptyListWhenNoSimilarProducts() {
+    when(this.responseSpec.bodyToMono(SimilarProductsEntity.class)).thenReturn(Mono.empty());
+
+    StepVerifier.create(this.productAdapter.findSimilarProductsById("1"))
+        .expectNext(List.of())
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldMapConnectionErrorWhenFetchingSimilarProducts() {
+    final WebClientRequestException requestException = mock(WebClientRequestException.class);
+    when(this.responseSpec.bodyToMono(SimilarProductsEntity.class)).thenReturn(Mono.error(requestException));
+
+    StepVerifier.create(this.productAdapter.findSimilarProductsById("1"))
+        .expectErrorSatisfies(ex -> assertThat(ex)
+            .isInstanceOf(ProductConnectionException.class)
+            .hasMessageContaining("Error fetching similar products."))
+        .verify();
+  }
+
+  @Test
+  void shouldReturnProductDetailsSuccessfully() {
+    final ProductDetails expected = new ProductDetails();
+
+    when(this.responseSpec.onStatus(any(), any())).thenReturn(this.responseSpec);
+    when(this.responseSpec.bodyToMono(ProductDetails.class)).thenReturn(Mono.just(expected));
+
+    StepVerifier.create(this.productAdapter.findProductDetailsById("1"))
+        .expectNext(expected)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldMapNotFoundWhen404() {
+    final ClientResponse clientResponse = ClientResponse.create(HttpStatus.NOT_FOUND).build();
+
+    when(this.responseSpec.onStatus(any(), any())).thenAnswer(invocationOnMock -> {
+      final Predicate<HttpStatusCode> statusPredicate = invocationOnMock.getArgument(0);
+      if (statusPredicate.test(HttpStatus.NOT_FOUND)) {
+        final Function<ClientResponse, Mono<? extends Throwable>> errorHandler = invocationOnMock.getArgument(1);
+        when(this.responseSpec.bodyToMono(ProductDetails.class))
+            .thenReturn(errorHandler.apply(clientResponse).flatMap(Mono::error));
+      }
+      return this.responseSpec;
+    });
+
+    StepVerifier.create(this.productAdapter.findProductDetailsById("999"))
+        .expectError(ProductDetailNotFoundException.class)
+        .verify();
+  }
+
+  @Test
+  void shouldMapTimeoutWhenFetchingProductDetails() {
+    when(this.responseSpec.onStatus(any(), any())).thenReturn(this.responseSpec);
+    when(this.responseSpec.bodyToMono(ProductDetails.class)).thenReturn(Mono.error(new ReadTimeoutException()));
+
+    StepVerifier.create(this.productAdapter.findProductDetailsById("1"))
+        .expectError(ProductDetailTimeoutException.class)
+        .verify();
+  }
+}
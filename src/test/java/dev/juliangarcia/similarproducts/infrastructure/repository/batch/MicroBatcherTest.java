@@ -0,0 +1,93 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MicroBatcherTest {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void shouldGroupKeysArrivingWithinTheWindowIntoOneBatch() {
+    final MicroBatcher<String, String> batcher = this.createBatcher(Duration.ofMillis(50), 10, this::echo);
+
+    final CompletableFuture<String> first = batcher.submit("1");
+    final CompletableFuture<String> second = batcher.submit("2");
+    final CompletableFuture<String> duplicate = batcher.submit("1");
+
+    assertThat(first.join()).isEqualTo("value-1");
+    assertThat(second.join()).isEqualTo("value-2");
+    assertThat(duplicate).isSameAs(first);
+    assertThat(this.batches).containsExactly(List.of("1", "2"));
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenBatchIsFull() {
+    final MicroBatcher<String, String> batcher = this.createBatcher(Duration.ofMinutes(1), 2, this::echo);
+
+    final CompletableFuture<String> first = batcher.submit("1");
+    final CompletableFuture<String> second = batcher.submit("2");
+
+    assertThat(first.join()).isEqualTo("value-1");
+    assertThat(second.join()).isEqualTo("value-2");
+    assertThat(this.batches).containsExactly(List.of("1", "2"));
+  }
+
+  @Test
+  void shouldFailKeysMissingFromBatchResult() {
+    final MicroBatcher<String, String> batcher = this.createBatcher(Duration.ofMillis(10), 10,
+        keys -> Map.of("1", "value-1"));
+
+    final CompletableFuture<String> found = batcher.submit("1");
+    final CompletableFuture<String> missing = batcher.submit("2");
+
+    assertThat(found.join()).isEqualTo("value-1");
+    assertThatThrownBy(missing::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(ProductDetailNotFoundException.class);
+  }
+
+  @Test
+  void shouldPropagateBatchFailureToEveryCaller() {
+    final MicroBatcher<String, String> batcher = this.createBatcher(Duration.ofMillis(10), 10, keys -> {
+      throw new ProductDetailErrorException();
+    });
+
+    assertThatThrownBy(() -> batcher.get("1")).isInstanceOf(ProductDetailErrorException.class);
+  }
+
+  private MicroBatcher<String, String> createBatcher(final Duration window, final int maxBatchSize,
+      final Function<List<String>, Map<String, String>> batchCall) {
+    return new MicroBatcher<>(window, maxBatchSize, keys -> {
+      this.batches.add(keys);
+      return batchCall.apply(keys);
+    }, ProductDetailNotFoundException::new, this.executor);
+  }
+
+  private Map<String, String> echo(final List<String> keys) {
+    return keys.stream().collect(Collectors.toMap(Function.identity(), key -> "value-" + key));
+  }
+}
@@ -0,0 +1,179 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.juliangarcia.similarproducts.application.concurrent.RequestDeadline;
+import dev.juliangarcia.similarproducts.application.concurrent.StalenessTracker;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private final List<Runnable> pendingTasks = new ArrayList<>();
+
+  private boolean deferTasks;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private CachingProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    final ProductCacheProperties properties = new ProductCacheProperties();
+    properties.setMaximumSize(100);
+    properties.setTimeToLive(Duration.ofSeconds(10));
+    properties.setStaleWhileRevalidate(Duration.ofSeconds(5));
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.repository = new CachingProductRepository(this.delegate, properties, this::execute,
+        this.meterRegistry, this.nanos::get);
+  }
+
+  @Test
+  void shouldServeProductDetailsFromCacheOnSubsequentCalls() {
+    final ProductDetails product = this.createProductDetails("1", "Product 1");
+    when(this.delegate.findProductDetailsById("1")).thenReturn(product);
+
+    final ProductDetails first = this.repository.findProductDetailsById("1");
+    final ProductDetails second = this.repository.findProductDetailsById("1");
+
+    assertThat(first).isSameAs(product);
+    assertThat(second).isSameAs(product);
+    verify(this.delegate, times(1)).findProductDetailsById("1");
+    assertThat(this.meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("cache.hit.ratio").tag("tier", "l1").gauge().value()).isEqualTo(0.5);
+  }
+
+  @Test
+  void shouldServeStaleValueAndRefreshInBackgroundAfterTimeToLive() {
+    final ProductDetails stale = this.createProductDetails("1", "Old name");
+    final ProductDetails fresh = this.createProductDetails("1", "New name");
+    when(this.delegate.findProductDetailsById("1")).thenReturn(stale, fresh);
+
+    this.repository.findProductDetailsById("1");
+    this.advance(Duration.ofSeconds(12));
+    this.deferTasks = true;
+    final ProductDetails duringRevalidation = this.repository.findProductDetailsById("1");
+    this.runPendingTasks();
+    final ProductDetails afterRevalidation = this.repository.findProductDetailsById("1");
+
+    assertThat(duringRevalidation).isSameAs(stale);
+    assertThat(afterRevalidation).isSameAs(fresh);
+    verify(this.delegate, times(2)).findProductDetailsById("1");
+    assertThat(this.meterRegistry.get("cache.refreshes").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReloadSynchronouslyOnceStaleWindowHasExpired() {
+    final ProductDetails expired = this.createProductDetails("1", "Old name");
+    final ProductDetails fresh = this.createProductDetails("1", "New name");
+    when(this.delegate.findProductDetailsById("1")).thenReturn(expired, fresh);
+
+    this.repository.findProductDetailsById("1");
+    this.advance(Duration.ofSeconds(16));
+    final ProductDetails result = this.repository.findProductDetailsById("1");
+
+    assertThat(result).isSameAs(fresh);
+    verify(this.delegate, times(2)).findProductDetailsById("1");
+  }
+
+  @Test
+  void shouldNotCacheFailures() {
+    final ProductDetails product = this.createProductDetails("1", "Product 1");
+    when(this.delegate.findProductDetailsById("1"))
+        .thenThrow(new ProductDetailNotFoundException())
+        .thenReturn(product);
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+    assertThat(this.repository.findProductDetailsById("1")).isSameAs(product);
+  }
+
+  @Test
+  void shouldDelegateSimilarProductsWithoutCaching() {
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of("2", "3"));
+
+    this.repository.findSimilarProductsById("1");
+    final List<String> result = this.repository.findSimilarProductsById("1");
+
+    assertThat(result).containsExactly("2", "3");
+    verify(this.delegate, times(2)).findSimilarProductsById("1");
+  }
+
+  @Test
+  void shouldRecordTheAgeOfServedEntries() {
+    when(this.delegate.findProductDetailsById("1")).thenReturn(this.createProductDetails("1", "Product 1"));
+    final StalenessTracker tracker = new StalenessTracker();
+
+    this.repository.findProductDetailsById("1");
+    this.advance(Duration.ofSeconds(4));
+    StalenessTracker.callTracking(tracker, () -> this.repository.findProductDetailsById("1"));
+
+    assertThat(tracker.oldestAge()).isEqualTo(Duration.ofSeconds(4));
+  }
+
+  @Test
+  void shouldLoadWithTheCallersRequestDeadline() {
+    final ProductDetails product = this.createProductDetails("1", "Product 1");
+    final AtomicLong deadlineSeenByLoad = new AtomicLong();
+    when(this.delegate.findProductDetailsById("1")).thenAnswer(invocation -> {
+      deadlineSeenByLoad.set(RequestDeadline.current());
+      return product;
+    });
+
+    final ProductDetails result = RequestDeadline.callUntil(42L, () -> this.repository.findProductDetailsById("1"));
+
+    assertThat(result).isSameAs(product);
+    assertThat(deadlineSeenByLoad).hasValue(42L);
+  }
+
+  private void execute(final Runnable task) {
+    if (this.deferTasks) {
+      this.pendingTasks.add(task);
+    } else {
+      task.run();
+    }
+  }
+
+  private void runPendingTasks() {
+    final List<Runnable> tasks = new ArrayList<>(this.pendingTasks);
+    this.pendingTasks.clear();
+    tasks.forEach(Runnable::run);
+  }
+
+  private void advance(final Duration duration) {
+    this.nanos.addAndGet(duration.toNanos());
+  }
+
+  private ProductDetails createProductDetails(String id, String name) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName(name);
+    productDetails.setPrice(10.0);
+    productDetails.setAvailability(true);
+    return productDetails;
+  }
+}
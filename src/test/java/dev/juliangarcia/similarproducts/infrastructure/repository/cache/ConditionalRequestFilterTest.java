@@ -0,0 +1,96 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ConditionalRequestFilterTest {
+
+  private final List<ClientRequest> requests = new ArrayList<>();
+
+  private final AtomicReference<String> version = new AtomicReference<>("v1");
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private WebClient webClient;
+
+  @BeforeEach
+  void setUp() {
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.webClient = WebClient.builder()
+        .exchangeFunction(this::upstream)
+        .filter(new ConditionalRequestFilter(1_000_000, Duration.ofHours(1), this.meterRegistry))
+        .build();
+  }
+
+  @Test
+  void shouldReplayTheCachedBodyWhenUpstreamAnswersNotModified() {
+    final String first = this.get("/product/1");
+    final String second = this.get("/product/1");
+
+    assertThat(second).isEqualTo(first).isEqualTo("{\"id\":\"1\",\"version\":\"v1\"}");
+    assertThat(this.requests.get(0).headers().getIfNoneMatch()).isEmpty();
+    assertThat(this.requests.get(1).headers().getIfNoneMatch()).containsExactly("\"v1\"");
+    assertThat(this.meterRegistry.counter("product.upstream.not.modified").count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReplaceTheCachedBodyWhenTheResourceChanges() {
+    this.get("/product/1");
+    this.version.set("v2");
+
+    assertThat(this.get("/product/1")).isEqualTo("{\"id\":\"1\",\"version\":\"v2\"}");
+    assertThat(this.get("/product/1")).isEqualTo("{\"id\":\"1\",\"version\":\"v2\"}");
+    assertThat(this.requests.get(2).headers().getIfNoneMatch()).containsExactly("\"v2\"");
+  }
+
+  @Test
+  void shouldNotSendConditionalRequestsForResponsesWithoutAnETag() {
+    this.version.set(null);
+
+    this.get("/product/1");
+    this.get("/product/1");
+
+    assertThat(this.requests.get(1).headers().getIfNoneMatch()).isEmpty();
+    assertThat(this.meterRegistry.counter("product.upstream.not.modified").count()).isZero();
+  }
+
+  private String get(final String uri) {
+    return this.webClient.get().uri(uri).retrieve().bodyToMono(String.class).block();
+  }
+
+  private Mono<ClientResponse> upstream(final ClientRequest request) {
+    this.requests.add(request);
+    final String current = this.version.get();
+    final String eTag = current == null ? null : "\"" + current + "\"";
+    if (eTag != null && request.headers().getIfNoneMatch().contains(eTag)) {
+      return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).header(HttpHeaders.ETAG, eTag).build());
+    }
+
+    final byte[] body = ("{\"id\":\"1\",\"version\":\"" + current + "\"}").getBytes(StandardCharsets.UTF_8);
+    final ClientResponse.Builder response = ClientResponse.create(HttpStatus.OK)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+    if (eTag != null) {
+      response.header(HttpHeaders.ETAG, eTag);
+    }
+    return Mono.just(response.build());
+  }
+}
@@ -0,0 +1,91 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DiskCachingProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  @TempDir
+  private Path directory;
+
+  private MappedProductDetailsStore store;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private DiskCachingProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    this.store = new MappedProductDetailsStore(this.directory.resolve("product-details.l2"), 1_024,
+        Duration.ofMinutes(10));
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.repository = new DiskCachingProductRepository(this.delegate, this.store, this.meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.store.close();
+  }
+
+  @Test
+  void shouldServeProductDetailsFromDiskOnSubsequentCalls() {
+    when(this.delegate.findProductDetailsById("1")).thenReturn(this.createProductDetails("1"));
+
+    this.repository.findProductDetailsById("1");
+    final ProductDetails result = this.repository.findProductDetailsById("1");
+
+    assertThat(result.getName()).isEqualTo("Product 1");
+    verify(this.delegate, times(1)).findProductDetailsById("1");
+    assertThat(this.meterRegistry.get("cache.hit.ratio").tag("tier", "l2").gauge().value())
+        .isEqualTo(0.5);
+  }
+
+  @Test
+  void shouldNotStoreEmptyUpstreamResponses() {
+    when(this.delegate.findProductDetailsById("1")).thenReturn(null);
+
+    assertThat(this.repository.findProductDetailsById("1")).isNull();
+    assertThat(this.repository.findProductDetailsById("1")).isNull();
+
+    verify(this.delegate, times(2)).findProductDetailsById("1");
+  }
+
+  @Test
+  void shouldKeyEntriesByTheRequestedProductId() {
+    when(this.delegate.findProductDetailsById("1")).thenReturn(this.createProductDetails(null));
+
+    this.repository.findProductDetailsById("1");
+
+    assertThat(this.store.get("1")).isNotNull();
+    assertThat(this.store.get("1").getProductId()).isEqualTo("1");
+  }
+
+  private ProductDetails createProductDetails(String id) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName("Product " + id);
+    productDetails.setPrice(10.0);
+    productDetails.setAvailability(true);
+    return productDetails;
+  }
+}
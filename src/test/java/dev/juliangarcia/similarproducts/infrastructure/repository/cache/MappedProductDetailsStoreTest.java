@@ -0,0 +1,111 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedProductDetailsStoreTest {
+
+  private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  void shouldReadBackStoredProductDetails() {
+    try (MappedProductDetailsStore store = this.openStore(1_024, Clock.systemUTC())) {
+      store.put("1", this.createProductDetails("1", "Shirt ñ"));
+
+      final ProductDetails result = store.get("1");
+
+      assertThat(result.getProductId()).isEqualTo("1");
+      assertThat(result.getName()).isEqualTo("Shirt ñ");
+      assertThat(result.getPrice()).isEqualTo(10.5);
+      assertThat(result.isAvailability()).isTrue();
+      assertThat(store.get("2")).isNull();
+    }
+  }
+
+  @Test
+  void shouldKeepEntriesAcrossRestarts() {
+    try (MappedProductDetailsStore store = this.openStore(1_024, Clock.systemUTC())) {
+      store.put("1", this.createProductDetails("1", "Product 1"));
+    }
+
+    try (MappedProductDetailsStore store = this.openStore(1_024, Clock.systemUTC())) {
+      assertThat(store.get("1").getName()).isEqualTo("Product 1");
+    }
+  }
+
+  @Test
+  void shouldDiscardFileWithDifferentLayout() {
+    try (MappedProductDetailsStore store = this.openStore(1_024, Clock.systemUTC())) {
+      store.put("1", this.createProductDetails("1", "Product 1"));
+    }
+
+    try (MappedProductDetailsStore store = this.openStore(4_096, Clock.systemUTC())) {
+      assertThat(store.get("1")).isNull();
+    }
+  }
+
+  @Test
+  void shouldTreatExpiredEntriesAsMissing() {
+    final Clock writeClock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+    final Clock readClock = Clock.offset(writeClock, TIME_TO_LIVE);
+    try (MappedProductDetailsStore store = this.openStore(1_024, writeClock)) {
+      store.put("1", this.createProductDetails("1", "Product 1"));
+    }
+
+    try (MappedProductDetailsStore store = this.openStore(1_024, readClock)) {
+      assertThat(store.get("1")).isNull();
+    }
+  }
+
+  @Test
+  void shouldOverwriteExistingEntryAndEvictOldestWhenBucketIsFull() {
+    try (MappedProductDetailsStore store = this.openStore(MappedProductDetailsStore.SLOTS_PER_BUCKET,
+        Clock.systemUTC())) {
+      store.put("1", this.createProductDetails("1", "Old name"));
+      store.put("1", this.createProductDetails("1", "New name"));
+      for (int i = 2; i <= MappedProductDetailsStore.SLOTS_PER_BUCKET + 1; i++) {
+        store.put(String.valueOf(i), this.createProductDetails(String.valueOf(i), "Product " + i));
+      }
+
+      assertThat(store.get("1")).isNull();
+      assertThat(store.get("2").getName()).isEqualTo("Product 2");
+      assertThat(store.get("9").getName()).isEqualTo("Product 9");
+    }
+  }
+
+  @Test
+  void shouldNotStoreEntriesThatDoNotFitInASlot() {
+    try (MappedProductDetailsStore store = this.openStore(1_024, Clock.systemUTC())) {
+      final boolean stored = store.put("1", this.createProductDetails("1", "x".repeat(
+          MappedProductDetailsStore.MAX_NAME_BYTES + 1)));
+
+      assertThat(stored).isFalse();
+      assertThat(store.get("1")).isNull();
+    }
+  }
+
+  private MappedProductDetailsStore openStore(final long capacity, final Clock clock) {
+    return new MappedProductDetailsStore(this.directory.resolve("product-details.l2"), capacity, TIME_TO_LIVE, clock);
+  }
+
+  private ProductDetails createProductDetails(String id, String name) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName(name);
+    productDetails.setPrice(10.5);
+    productDetails.setAvailability(true);
+    return productDetails;
+  }
+}
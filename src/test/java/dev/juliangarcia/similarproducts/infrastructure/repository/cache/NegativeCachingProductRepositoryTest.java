@@ -0,0 +1,118 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NegativeCachingProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private NegativeCachingProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    final ProductCacheProperties.Negative properties = new ProductCacheProperties.Negative();
+    properties.setMaximumSize(100);
+    properties.setTimeToLive(Duration.ofSeconds(10));
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.repository = new NegativeCachingProductRepository(this.delegate, properties, this.meterRegistry,
+        this.nanos::get);
+  }
+
+  @Test
+  void shouldShortCircuitProductDetailsKnownToBeMissing() {
+    when(this.delegate.findProductDetailsById("1")).thenThrow(new ProductDetailNotFoundException());
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+
+    verify(this.delegate, times(1)).findProductDetailsById("1");
+    assertThat(this.meterRegistry.get("cache.gets").tag("cache", "productDetailsNotFound").tag("result", "hit")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldAskUpstreamAgainOnceNotFoundEntryHasExpired() {
+    final ProductDetails product = this.createProductDetails("1");
+    when(this.delegate.findProductDetailsById("1"))
+        .thenThrow(new ProductDetailNotFoundException())
+        .thenReturn(product);
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+    this.nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+    assertThat(this.repository.findProductDetailsById("1")).isSameAs(product);
+    verify(this.delegate, times(2)).findProductDetailsById("1");
+  }
+
+  @Test
+  void shouldNotRememberOtherFailures() {
+    final ProductDetails product = this.createProductDetails("1");
+    when(this.delegate.findProductDetailsById("1"))
+        .thenThrow(new ProductDetailErrorException())
+        .thenReturn(product);
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailErrorException.class);
+
+    assertThat(this.repository.findProductDetailsById("1")).isSameAs(product);
+  }
+
+  @Test
+  void shouldRememberEmptySimilarProductLists() {
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of());
+
+    this.repository.findSimilarProductsById("1");
+    final List<String> result = this.repository.findSimilarProductsById("1");
+
+    assertThat(result).isEmpty();
+    verify(this.delegate, times(1)).findSimilarProductsById("1");
+  }
+
+  @Test
+  void shouldNotRememberNonEmptySimilarProductLists() {
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of("2"));
+
+    this.repository.findSimilarProductsById("1");
+    this.repository.findSimilarProductsById("1");
+
+    verify(this.delegate, times(2)).findSimilarProductsById("1");
+  }
+
+  private ProductDetails createProductDetails(String id) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName("Product " + id);
+    productDetails.setPrice(10.0);
+    productDetails.setAvailability(true);
+    return productDetails;
+  }
+}
@@ -0,0 +1,78 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SimilarIdsCacheTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Function<String, List<String>> loader = productId -> {
+    this.loads.incrementAndGet();
+    return List.of(productId + "-a", productId + "-b");
+  };
+
+  private SimilarIdsCache cache;
+
+  @BeforeEach
+  void setUp() {
+    final ProductCacheProperties.SimilarIds properties = new ProductCacheProperties.SimilarIds();
+    properties.setMaximumWeight(1_000);
+    properties.setTimeToLive(Duration.ofHours(1));
+    this.cache = new SimilarIdsCache(properties, Runnable::run, new SimpleMeterRegistry(), this.nanos::get);
+  }
+
+  @Test
+  void shouldLoadOnceUntilTimeToLiveExpires() {
+    this.cache.get("1", this.loader);
+    this.cache.get("1", this.loader);
+    this.nanos.addAndGet(Duration.ofMinutes(61).toNanos());
+    this.cache.get("1", this.loader);
+
+    assertThat(this.loads).hasValue(2);
+  }
+
+  @Test
+  void shouldInvalidateSingleProduct() {
+    this.cache.get("1", this.loader);
+    this.cache.get("2", this.loader);
+
+    assertThat(this.cache.invalidate("1")).isEqualTo(1);
+    assertThat(this.cache.invalidate("1")).isZero();
+    this.cache.get("1", this.loader);
+    this.cache.get("2", this.loader);
+
+    assertThat(this.loads).hasValue(3);
+  }
+
+  @Test
+  void shouldInvalidateProductsByPrefix() {
+    this.cache.get("10", this.loader);
+    this.cache.get("11", this.loader);
+    this.cache.get("20", this.loader);
+
+    assertThat(this.cache.invalidateByPrefix("1")).isEqualTo(2);
+    assertThat(this.cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldInvalidateEverything() {
+    this.cache.get("1", this.loader);
+    this.cache.get("2", this.loader);
+
+    assertThat(this.cache.invalidateAll()).isEqualTo(2);
+    assertThat(this.cache.size()).isZero();
+  }
+}
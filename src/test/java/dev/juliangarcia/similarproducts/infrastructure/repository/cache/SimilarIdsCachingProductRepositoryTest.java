@@ -0,0 +1,75 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SimilarIdsCachingProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  private SimilarIdsCache similarIdsCache;
+
+  private SimilarIdsCachingProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    this.similarIdsCache = new SimilarIdsCache(new ProductCacheProperties.SimilarIds(), Runnable::run,
+        new SimpleMeterRegistry());
+    this.repository = new SimilarIdsCachingProductRepository(this.delegate, this.similarIdsCache);
+  }
+
+  @Test
+  void shouldServeSimilarIdsFromCacheUntilInvalidated() {
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of("2", "3"), List.of("4"));
+
+    final List<String> first = this.repository.findSimilarProductsById("1");
+    final List<String> cached = this.repository.findSimilarProductsById("1");
+    this.similarIdsCache.invalidate("1");
+    final List<String> refreshed = this.repository.findSimilarProductsById("1");
+
+    assertThat(first).containsExactly("2", "3");
+    assertThat(cached).containsExactly("2", "3");
+    assertThat(refreshed).containsExactly("4");
+    verify(this.delegate, times(2)).findSimilarProductsById("1");
+  }
+
+  @Test
+  void shouldNotCacheEmptySimilarIds() {
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of(), List.of("2"));
+
+    final List<String> empty = this.repository.findSimilarProductsById("1");
+    final List<String> reloaded = this.repository.findSimilarProductsById("1");
+
+    assertThat(empty).isEmpty();
+    assertThat(reloaded).containsExactly("2");
+    assertThat(this.similarIdsCache.size()).isEqualTo(1);
+    verify(this.delegate, times(2)).findSimilarProductsById("1");
+  }
+
+  @Test
+  void shouldDelegateProductDetailsWithoutCaching() {
+    final ProductDetails product = new ProductDetails();
+    when(this.delegate.findProductDetailsById("1")).thenReturn(product);
+
+    this.repository.findProductDetailsById("1");
+    this.repository.findProductDetailsById("1");
+
+    verify(this.delegate, times(2)).findProductDetailsById("1");
+  }
+}
@@ -0,0 +1,179 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.juliangarcia.similarproducts.application.concurrent.StalenessTracker;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StaleFallbackProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  @Mock
+  private ProductRepository caches;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private StaleProductStore store;
+
+  private StaleFallbackProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    final ProductCacheProperties.StaleFallback properties = new ProductCacheProperties.StaleFallback();
+    properties.setMaximumSize(100);
+    properties.setMaxStaleness(Duration.ofMinutes(10));
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.store = new StaleProductStore(properties, this.meterRegistry, this.nanos::get);
+    this.repository = new StaleFallbackProductRepository(
+        new StaleRecordingProductRepository(this.delegate, this.store), this.store, this.meterRegistry);
+  }
+
+  @Test
+  void shouldServeLastKnownGoodProductDetailsWhenTheCircuitIsOpen() {
+    final ProductDetails product = this.createProductDetails("1");
+    when(this.delegate.findProductDetailsById("1"))
+        .thenReturn(product)
+        .thenThrow(this.callNotPermitted());
+    final StalenessTracker tracker = new StalenessTracker();
+
+    this.repository.findProductDetailsById("1");
+    final ProductDetails stale = StalenessTracker.callTracking(tracker,
+        () -> this.repository.findProductDetailsById("1"));
+
+    assertThat(stale).isEqualTo(product);
+    assertThat(tracker.isStale()).isTrue();
+    assertThat(this.meterRegistry.get(StaleFallbackProductRepository.METRIC_NAME)
+        .tag("operation", "productDetails").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeyProductDetailsByTheRequestedProductId() {
+    final ProductDetails product = this.createProductDetails(null);
+    when(this.delegate.findProductDetailsById("1"))
+        .thenReturn(product)
+        .thenThrow(this.callNotPermitted());
+
+    this.repository.findProductDetailsById("1");
+
+    assertThat(this.repository.findProductDetailsById("1")).isSameAs(product);
+  }
+
+  @Test
+  void shouldServeLastKnownGoodSimilarProductsWhenTheUpstreamTimesOut() {
+    when(this.delegate.findSimilarProductsById("1"))
+        .thenReturn(List.of("2", "3"))
+        .thenThrow(new ProductDetailTimeoutException("Timeout"));
+
+    this.repository.findSimilarProductsById("1");
+
+    assertThat(this.repository.findSimilarProductsById("1")).containsExactly("2", "3");
+    assertThat(this.meterRegistry.get(StaleFallbackProductRepository.METRIC_NAME)
+        .tag("operation", "similarProducts").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRethrowWhenNoValueIsKnown() {
+    when(this.delegate.findProductDetailsById("1")).thenThrow(this.callNotPermitted());
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(CallNotPermittedException.class);
+  }
+
+  @Test
+  void shouldNotMaskNotFound() {
+    when(this.delegate.findProductDetailsById("1"))
+        .thenReturn(this.createProductDetails("1"))
+        .thenThrow(new ProductDetailNotFoundException());
+
+    this.repository.findProductDetailsById("1");
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+  }
+
+  @Test
+  void shouldNotServeValuesOlderThanTheMaxStaleness() {
+    when(this.delegate.findProductDetailsById("1"))
+        .thenReturn(this.createProductDetails("1"))
+        .thenThrow(this.callNotPermitted());
+
+    this.repository.findProductDetailsById("1");
+    this.nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(CallNotPermittedException.class);
+  }
+
+  @Test
+  void shouldNotRecordValuesServedByTheCaches() {
+    when(this.caches.findProductDetailsById("1"))
+        .thenReturn(this.createProductDetails("1"))
+        .thenThrow(this.callNotPermitted());
+    final StaleFallbackProductRepository overCaches = new StaleFallbackProductRepository(this.caches, this.store,
+        this.meterRegistry);
+
+    overCaches.findProductDetailsById("1");
+
+    assertThatThrownBy(() -> overCaches.findProductDetailsById("1"))
+        .isInstanceOf(CallNotPermittedException.class);
+  }
+
+  @Test
+  void shouldCountStalenessFromTheUpstreamFetch() {
+    final StaleRecordingProductRepository upstreamLoads = new StaleRecordingProductRepository(this.delegate,
+        this.store);
+    final ProductDetails product = this.createProductDetails("1");
+    when(this.delegate.findProductDetailsById("1")).thenReturn(product);
+    when(this.caches.findProductDetailsById("1"))
+        .thenAnswer(invocation -> upstreamLoads.findProductDetailsById("1"))
+        .thenReturn(product)
+        .thenThrow(this.callNotPermitted());
+    final StaleFallbackProductRepository overCaches = new StaleFallbackProductRepository(this.caches, this.store,
+        this.meterRegistry);
+
+    overCaches.findProductDetailsById("1");
+    this.nanos.addAndGet(TimeUnit.MINUTES.toNanos(9));
+    overCaches.findProductDetailsById("1");
+    this.nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+    assertThatThrownBy(() -> overCaches.findProductDetailsById("1"))
+        .isInstanceOf(CallNotPermittedException.class);
+  }
+
+  private CallNotPermittedException callNotPermitted() {
+    return CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("productService"));
+  }
+
+  private ProductDetails createProductDetails(String id) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName("Product " + id);
+    productDetails.setPrice(10.0);
+    productDetails.setAvailability(true);
+    return productDetails;
+  }
+}
@@ -0,0 +1,159 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightProductRepositoryTest {
+
+  private static final int CALLERS = 8;
+
+  @Mock
+  private ProductRepository delegate;
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private SingleFlightProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.repository = new SingleFlightProductRepository(this.delegate, this.meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void shouldShareOneUpstreamCallBetweenConcurrentCallers() throws Exception {
+    final ProductDetails product = this.createProductDetails("1");
+    final CountDownLatch started = new CountDownLatch(1);
+    when(this.delegate.findProductDetailsById("1")).thenAnswer(invocation -> {
+      started.countDown();
+      this.release.await();
+      return product;
+    });
+
+    final CompletableFuture<ProductDetails> leader = this.submit(() -> this.repository.findProductDetailsById("1"));
+    started.await();
+    final List<CompletableFuture<ProductDetails>> followers = IntStream.range(0, CALLERS)
+        .mapToObj(i -> this.submit(() -> this.repository.findProductDetailsById("1")))
+        .toList();
+    this.awaitCoalesced("productDetails", CALLERS);
+    this.release.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(product);
+    for (final CompletableFuture<ProductDetails> follower : followers) {
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(product);
+    }
+    verify(this.delegate, times(1)).findProductDetailsById("1");
+  }
+
+  @Test
+  void shouldShareUpstreamFailureBetweenConcurrentCallers() throws Exception {
+    final ProductDetailErrorException failure = new ProductDetailErrorException();
+    final CountDownLatch started = new CountDownLatch(1);
+    when(this.delegate.findSimilarProductsById("1")).thenAnswer(invocation -> {
+      started.countDown();
+      this.release.await();
+      throw failure;
+    });
+
+    final CompletableFuture<List<String>> leader = this.submit(() -> this.repository.findSimilarProductsById("1"));
+    started.await();
+    final CompletableFuture<List<String>> follower = this.submit(() -> this.repository.findSimilarProductsById("1"));
+    this.awaitCoalesced("similarProducts", 1);
+    this.release.countDown();
+
+    assertThatThrownBy(leader::join).isInstanceOf(CompletionException.class).hasCause(failure);
+    assertThatThrownBy(follower::join).isInstanceOf(CompletionException.class).hasCause(failure);
+    verify(this.delegate, times(1)).findSimilarProductsById("1");
+  }
+
+  @Test
+  void shouldRunTheCallAgainWhenTheInFlightCallWasCancelled() throws Exception {
+    final ProductDetails product = this.createProductDetails("1");
+    final CountDownLatch started = new CountDownLatch(1);
+    when(this.delegate.findProductDetailsById("1"))
+        .thenAnswer(invocation -> {
+          started.countDown();
+          this.release.await();
+          throw new ProductRequestCancelledException("Cancelled");
+        })
+        .thenReturn(product);
+
+    final CompletableFuture<ProductDetails> leader = this.submit(() -> this.repository.findProductDetailsById("1"));
+    started.await();
+    final CompletableFuture<ProductDetails> follower = this.submit(() -> this.repository.findProductDetailsById("1"));
+    this.awaitCoalesced("productDetails", 1);
+    this.release.countDown();
+
+    assertThatThrownBy(leader::join).hasCauseInstanceOf(ProductRequestCancelledException.class);
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(product);
+    verify(this.delegate, times(2)).findProductDetailsById("1");
+  }
+
+  @Test
+  void shouldCallUpstreamAgainOnceThePreviousCallHasCompleted() {
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of("2"), List.of("3"));
+
+    final List<String> first = this.repository.findSimilarProductsById("1");
+    final List<String> second = this.repository.findSimilarProductsById("1");
+
+    assertThat(first).containsExactly("2");
+    assertThat(second).containsExactly("3");
+    verify(this.delegate, times(2)).findSimilarProductsById("1");
+  }
+
+  private <T> CompletableFuture<T> submit(final Supplier<T> call) {
+    return CompletableFuture.supplyAsync(call, this.executor);
+  }
+
+  private void awaitCoalesced(final String operation, final int expected) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (this.meterRegistry.get("product.repository.coalesced").tag("operation", operation).counter().count()
+        < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  private ProductDetails createProductDetails(String id) {
+    final ProductDetails productDetails = new ProductDetails();
+    productDetails.setProductId(id);
+    productDetails.setName("Product " + id);
+    productDetails.setPrice(10.0);
+    productDetails.setAvailability(true);
+    return productDetails;
+  }
+}
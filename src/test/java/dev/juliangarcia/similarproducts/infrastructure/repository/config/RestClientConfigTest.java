@@ -0,0 +1,113 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.ConditionalRequestFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+class RestClientConfigTest {
+
+  @Test
+  void shouldBuildConnectionProviderFromPoolProperties() {
+    final RestClientProperties properties = new RestClientProperties();
+    properties.getPool().setName("test-client");
+    properties.getPool().setMaxConnections(42);
+    properties.getPool().setPendingAcquireTimeout(Duration.ofMillis(250));
+    properties.getPool().setMetricsEnabled(false);
+
+    final ConnectionProvider connectionProvider = new RestClientConfig(properties).productConnectionProvider();
+
+    try {
+      assertThat(connectionProvider.name()).isEqualTo("test-client");
+      assertThat(connectionProvider.maxConnections()).isEqualTo(42);
+    } finally {
+      connectionProvider.dispose();
+    }
+  }
+
+  @Test
+  void shouldBuildASeparateConnectionProviderForSimilarIds() {
+    final RestClientConfig config = new RestClientConfig(new RestClientProperties());
+
+    final ConnectionProvider productConnectionProvider = config.productConnectionProvider();
+    final ConnectionProvider similarIdsConnectionProvider = config.similarIdsConnectionProvider();
+
+    try {
+      assertThat(similarIdsConnectionProvider).isNotSameAs(productConnectionProvider);
+      assertThat(similarIdsConnectionProvider.name()).isEqualTo("similar-ids-client");
+      assertThat(similarIdsConnectionProvider.maxConnections()).isEqualTo(100);
+    } finally {
+      productConnectionProvider.dispose();
+      similarIdsConnectionProvider.dispose();
+    }
+  }
+
+  @Test
+  void shouldPreferSmileFromUpstreamWhenEnabled() {
+    final RestClientProperties properties = this.createProperties();
+    properties.setSmile(true);
+    final AtomicReference<ClientRequest> request = new AtomicReference<>();
+    final WebClient.Builder builder = WebClient.builder().exchangeFunction(clientRequest -> {
+      request.set(clientRequest);
+      return Mono.just(ClientResponse.create(HttpStatus.NO_CONTENT).build());
+    });
+
+    final ConnectionProvider connectionProvider = ConnectionProvider.newConnection();
+    new RestClientConfig(properties).productRestClient(builder, connectionProvider,
+            new StaticListableBeanFactory().getBeanProvider(ConditionalRequestFilter.class))
+        .get().uri("/product/1").retrieve().toBodilessEntity().block();
+
+    assertThat(request.get().headers().getFirst(HttpHeaders.ACCEPT)).isEqualTo(RestClientConfig.SMILE_FIRST_ACCEPT);
+  }
+
+  @Test
+  void shouldDecodeSmileProductDetailsWithTheProductDetailsDeserializer() throws Exception {
+    final RestClientConfig config = new RestClientConfig(this.createProperties());
+    final Jackson2ObjectMapperBuilder objectMapperBuilder = Jackson2ObjectMapperBuilder.json()
+        .modulesToInstall(config.productDetailsDeserializationModule());
+    final ExchangeStrategies strategies = ExchangeStrategies.builder()
+        .codecs(config.smileCodecCustomizer(objectMapperBuilder)::customize)
+        .build();
+    final byte[] body = new ObjectMapper(new SmileFactory()).writeValueAsBytes(
+        Map.of("id", "1", "name", "Shirt", "price", 9.99, "availability", true));
+
+    final ProductDetails productDetails = ClientResponse.create(HttpStatus.OK, strategies)
+        .header(HttpHeaders.CONTENT_TYPE, "application/x-jackson-smile")
+        .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+        .build()
+        .bodyToMono(ProductDetails.class)
+        .block();
+
+    assertThat(productDetails.getProductId()).isEqualTo("1");
+    assertThat(productDetails.getName()).isEqualTo("Shirt");
+    assertThat(productDetails.getPrice()).isEqualTo(9.99);
+    assertThat(productDetails.isAvailability()).isTrue();
+  }
+
+  private RestClientProperties createProperties() {
+    final RestClientProperties properties = new RestClientProperties();
+    properties.setProductBaseUrl("http://localhost");
+    properties.setConnectTimeout(Duration.ofSeconds(1));
+    properties.setReadTimeout(Duration.ofSeconds(1));
+    return properties;
+  }
+}
@@ -0,0 +1,51 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import org.junit.jupiter.api.Test;
+
+class ProductDetailsDeserializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(
+      new SimpleModule().addDeserializer(ProductDetails.class, new ProductDetailsDeserializer()));
+
+  @Test
+  void shouldReadProductDetailsStraightIntoTheDomain() throws Exception {
+    final ProductDetails productDetails = this.objectMapper.readValue("""
+        {"id":"1","name":"Shirt","price":9.99,"availability":true}
+        """, ProductDetails.class);
+
+    assertThat(productDetails.getProductId()).isEqualTo("1");
+    assertThat(productDetails.getName()).isEqualTo("Shirt");
+    assertThat(productDetails.getPrice()).isEqualTo(9.99);
+    assertThat(productDetails.isAvailability()).isTrue();
+  }
+
+  @Test
+  void shouldSkipUnknownFieldsAndNullValues() throws Exception {
+    final ProductDetails productDetails = this.objectMapper.readValue("""
+        {"id":"1","tags":["a",{"b":[1,2]}],"name":null,"extra":{"nested":{"id":"2"}},"price":5}
+        """, ProductDetails.class);
+
+    assertThat(productDetails.getProductId()).isEqualTo("1");
+    assertThat(productDetails.getName()).isNull();
+    assertThat(productDetails.getPrice()).isEqualTo(5.0);
+    assertThat(productDetails.isAvailability()).isFalse();
+  }
+
+  @Test
+  void shouldReadArraysOfProductDetails() throws Exception {
+    final List<ProductDetails> productDetails = this.objectMapper.readValue("""
+        [{"id":"1","name":"Shirt","price":9.99,"availability":true},{"id":"2","price":19.99}]
+        """, new TypeReference<>() {
+        });
+
+    assertThat(productDetails).extracting(ProductDetails::getProductId).containsExactly("1", "2");
+  }
+}
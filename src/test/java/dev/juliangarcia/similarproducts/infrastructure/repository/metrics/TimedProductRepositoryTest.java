@@ -0,0 +1,99 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductConnectionException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.latency.LatencyRecorders;
+import dev.juliangarcia.similarproducts.infrastructure.latency.config.LatencyRecorderProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TimedProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private TimedProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.repository = new TimedProductRepository(this.delegate, this.meterRegistry);
+  }
+
+  @Test
+  void shouldRecordSuccessfulCallsByOperation() {
+    final ProductDetails product = new ProductDetails();
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of("2"));
+    when(this.delegate.findProductDetailsById("2")).thenReturn(product);
+
+    this.repository.findSimilarProductsById("1");
+    this.repository.findProductDetailsById("2");
+
+    assertThat(this.count("similarProducts", "success")).isEqualTo(1);
+    assertThat(this.count("productDetails", "success")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRecordFailedCallsByOutcome() {
+    when(this.delegate.findProductDetailsById("1")).thenThrow(new ProductDetailNotFoundException());
+    when(this.delegate.findProductDetailsById("2")).thenThrow(new ProductDetailErrorException());
+    when(this.delegate.findProductDetailsById("3")).thenThrow(new ProductDetailTimeoutException("Timeout"));
+    when(this.delegate.findProductDetailsById("4")).thenThrow(new ProductConnectionException("Connection"));
+    when(this.delegate.findProductDetailsById("5")).thenThrow(
+        CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("productDetails")));
+    when(this.delegate.findProductDetailsById("6")).thenThrow(new IllegalStateException());
+
+    for (final String productId : List.of("1", "2", "3", "4", "5", "6")) {
+      assertThatThrownBy(() -> this.repository.findProductDetailsById(productId)).isInstanceOf(RuntimeException.class);
+    }
+
+    assertThat(this.count("productDetails", "not_found")).isEqualTo(1);
+    assertThat(this.count("productDetails", "server_error")).isEqualTo(1);
+    assertThat(this.count("productDetails", "timeout")).isEqualTo(1);
+    assertThat(this.count("productDetails", "connection_error")).isEqualTo(1);
+    assertThat(this.count("productDetails", "circuit_open")).isEqualTo(1);
+    assertThat(this.count("productDetails", "error")).isEqualTo(1);
+    assertThat(this.count("productDetails", "success")).isZero();
+  }
+
+  @Test
+  void shouldRecordCallsIntoLatencyRecordersByOperation() {
+    final LatencyRecorders latencyRecorders = new LatencyRecorders(new LatencyRecorderProperties());
+    final TimedProductRepository repository = new TimedProductRepository(this.delegate, this.meterRegistry,
+        latencyRecorders);
+    when(this.delegate.findProductDetailsById("1")).thenThrow(new ProductDetailNotFoundException());
+
+    repository.findSimilarProductsById("1");
+    assertThatThrownBy(() -> repository.findProductDetailsById("1")).isInstanceOf(RuntimeException.class);
+
+    assertThat(latencyRecorders.recorder("product.repository.similarProducts").sample().getTotalCount()).isEqualTo(1);
+    assertThat(latencyRecorders.recorder("product.repository.productDetails").sample().getTotalCount()).isEqualTo(1);
+  }
+
+  private long count(final String operation, final String outcome) {
+    return this.meterRegistry.get(TimedProductRepository.METRIC_NAME)
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+}
@@ -0,0 +1,112 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private ConcurrencyLimitProperties properties;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    this.properties = new ConcurrencyLimitProperties();
+    this.properties.setInitialLimit(4);
+    this.properties.setMinLimit(2);
+    this.properties.setMaxLimit(8);
+    this.properties.setBackoffRatio(0.5);
+    this.properties.setLatencyThreshold(Duration.ofSeconds(1));
+    this.properties.setMaxQueueSize(1);
+    this.properties.setMaxQueueWait(Duration.ofMillis(50));
+    this.meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void shouldIncreaseLimitOnSuccessWhileHeavilyUsed() {
+    final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(this.properties, this.meterRegistry);
+
+    final List<AdaptiveConcurrencyLimiter.Permit> permits = this.acquire(limiter, 2);
+    permits.forEach(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+
+    assertThat(limiter.getLimit()).isEqualTo(5);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldDecreaseLimitOnDropWithoutGoingBelowMinimum() {
+    final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(this.properties, this.meterRegistry);
+
+    limiter.acquire().onDropped();
+    assertThat(limiter.getLimit()).isEqualTo(2);
+    limiter.acquire().onDropped();
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldKeepLimitWhenSampleIsIgnored() {
+    final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(this.properties, this.meterRegistry);
+
+    this.acquire(limiter, 4).forEach(AdaptiveConcurrencyLimiter.Permit::onIgnored);
+
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldRejectWhenQueueWaitExpires() {
+    final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(this.properties, this.meterRegistry);
+    this.acquire(limiter, 4);
+
+    assertThatThrownBy(limiter::acquire).isInstanceOf(ProductServiceOverloadedException.class);
+    assertThat(this.meterRegistry.get("product.upstream.concurrency.rejected").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectImmediatelyWhenQueueIsFull() throws Exception {
+    this.properties.setMaxQueueWait(Duration.ofSeconds(5));
+    final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(this.properties, this.meterRegistry);
+    final List<AdaptiveConcurrencyLimiter.Permit> permits = this.acquire(limiter, 4);
+    final CompletableFuture<AdaptiveConcurrencyLimiter.Permit> queued =
+        CompletableFuture.supplyAsync(limiter::acquire, this.executor);
+    while (limiter.getQueued() == 0) {
+      Thread.sleep(1);
+    }
+
+    final long start = System.nanoTime();
+    assertThatThrownBy(limiter::acquire).isInstanceOf(ProductServiceOverloadedException.class);
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+    permits.getFirst().onIgnored();
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+  }
+
+  private List<AdaptiveConcurrencyLimiter.Permit> acquire(final AdaptiveConcurrencyLimiter limiter, final int count) {
+    final List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      permits.add(limiter.acquire());
+    }
+    return permits;
+  }
+}
@@ -0,0 +1,90 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  private Bulkhead similarProductsBulkhead;
+
+  private Bulkhead productDetailsBulkhead;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private BulkheadProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    final BulkheadConfig config = BulkheadConfig.custom()
+        .maxConcurrentCalls(1)
+        .maxWaitDuration(Duration.ZERO)
+        .build();
+    this.similarProductsBulkhead = Bulkhead.of("similarProducts", config);
+    this.productDetailsBulkhead = Bulkhead.of("productDetails", config);
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.repository = new BulkheadProductRepository(this.delegate, this.similarProductsBulkhead,
+        this.productDetailsBulkhead, this.meterRegistry);
+  }
+
+  @Test
+  void shouldKeepSimilarProductsCallsFlowingWhenDetailsAreSaturated() {
+    this.productDetailsBulkhead.acquirePermission();
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of("2"));
+
+    assertThat(this.repository.findSimilarProductsById("1")).containsExactly("2");
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("2"))
+        .isInstanceOf(ProductServiceOverloadedException.class);
+
+    assertThat(this.rejections("productDetails")).isEqualTo(1);
+    assertThat(this.rejections("similarProducts")).isZero();
+  }
+
+  @Test
+  void shouldRejectWithoutCallingTheDelegateWhenTheBulkheadIsFull() {
+    this.similarProductsBulkhead.acquirePermission();
+
+    assertThatThrownBy(() -> this.repository.findSimilarProductsById("1"))
+        .isInstanceOf(ProductServiceOverloadedException.class);
+
+    verifyNoInteractions(this.delegate);
+    assertThat(this.rejections("similarProducts")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReleaseThePermitWhenTheCallFails() {
+    when(this.delegate.findProductDetailsById("1")).thenThrow(new ProductDetailNotFoundException());
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+
+    assertThat(this.productDetailsBulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+  }
+
+  private double rejections(final String bulkhead) {
+    return this.meterRegistry.get(BulkheadProductRepository.REJECTED_METRIC_NAME)
+        .tag("bulkhead", bulkhead)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,107 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductRequestCancelledException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  private AdaptiveConcurrencyLimiter limiter;
+
+  private ConcurrencyLimitedProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setInitialLimit(2);
+    properties.setMinLimit(1);
+    properties.setMaxLimit(10);
+    properties.setBackoffRatio(0.5);
+    properties.setLatencyThreshold(Duration.ofSeconds(1));
+    properties.setMaxQueueWait(Duration.ZERO);
+    this.limiter = new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry());
+    this.repository = new ConcurrencyLimitedProductRepository(this.delegate, this.limiter);
+  }
+
+  @Test
+  void shouldBackOffWhenUpstreamTimesOut() {
+    when(this.delegate.findProductDetailsById("1")).thenThrow(new ProductDetailTimeoutException("Timeout"));
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailTimeoutException.class);
+
+    assertThat(this.limiter.getLimit()).isEqualTo(1);
+    assertThat(this.limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldTreatNotFoundAsSuccessfulResponse() {
+    when(this.delegate.findProductDetailsById("1")).thenThrow(new ProductDetailNotFoundException());
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+
+    assertThat(this.limiter.getLimit()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldIgnoreCancelledCalls() {
+    when(this.delegate.findProductDetailsById("1")).thenThrow(new ProductRequestCancelledException("Cancelled"));
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductRequestCancelledException.class);
+
+    assertThat(this.limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReleasePermitWhenCallFailsWithAnError() {
+    when(this.delegate.findProductDetailsById("1")).thenThrow(new StackOverflowError());
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(StackOverflowError.class);
+
+    assertThat(this.limiter.getInFlight()).isZero();
+    assertThat(this.limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReleasePermitAfterSuccessfulCall() {
+    when(this.delegate.findProductDetailsById("2")).thenReturn(new ProductDetails());
+
+    assertThat(this.repository.findProductDetailsById("2")).isNotNull();
+    assertThat(this.limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldLetSimilarProductsThroughWhenProductDetailsFillTheLimit() {
+    this.limiter.acquire();
+    this.limiter.acquire();
+    when(this.delegate.findSimilarProductsById("1")).thenReturn(List.of("2"));
+
+    assertThat(this.repository.findSimilarProductsById("1")).containsExactly("2");
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("2"))
+        .isInstanceOf(ProductServiceOverloadedException.class);
+  }
+}
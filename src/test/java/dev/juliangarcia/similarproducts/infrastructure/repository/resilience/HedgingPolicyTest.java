@@ -0,0 +1,153 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.RestClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class HedgingPolicyTest {
+
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private RestClientProperties.Hedging properties;
+
+  private RequestBudget requestBudget;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    this.properties = new RestClientProperties.Hedging();
+    this.properties.setEnabled(true);
+    this.properties.setMinDelay(Duration.ofMillis(10));
+    this.properties.setMaxDelay(Duration.ofMillis(50));
+    this.requestBudget = new RequestBudget(1.0, 10);
+    this.requestBudget.recordRequest();
+    this.meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void shouldSendHedgedRequestWhenPrimaryIsSlowAndUseFirstResponse() {
+    final HedgingPolicy hedgingPolicy = new HedgingPolicy(this.properties, this.requestBudget, this.meterRegistry);
+
+    StepVerifier.create(hedgingPolicy.hedge(() -> this.attempts.incrementAndGet() == 1
+            ? Mono.just("primary").delayElement(Duration.ofSeconds(5))
+            : Mono.just("hedged")))
+        .expectNext("hedged")
+        .expectComplete()
+        .verify(Duration.ofSeconds(2));
+
+    assertThat(this.attempts).hasValue(2);
+    assertThat(this.meterRegistry.get("product.details.hedge.requests").counter().count()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("product.details.hedge.wins").counter().count()).isEqualTo(1);
+    assertThat(hedgingPolicy.hedgeDelay()).isEqualTo(this.properties.getMaxDelay());
+  }
+
+  @Test
+  void shouldRecordElapsedTimeOfPrimaryCancelledByHedge() {
+    this.properties.setWindowSize(4);
+    final HedgingPolicy hedgingPolicy = new HedgingPolicy(this.properties, this.requestBudget, this.meterRegistry,
+        this.nanos::get);
+
+    StepVerifier.create(hedgingPolicy.hedge(() -> {
+      if (this.attempts.incrementAndGet() == 1) {
+        return Mono.never();
+      }
+      this.nanos.set(Duration.ofMillis(40).toNanos());
+      return Mono.just("hedged");
+    }))
+        .expectNext("hedged")
+        .expectComplete()
+        .verify(Duration.ofSeconds(2));
+
+    assertThat(hedgingPolicy.hedgeDelay()).isEqualTo(Duration.ofMillis(40));
+  }
+
+  @Test
+  void shouldNotHedgeWhenPrimaryAnswersBeforeTheDelay() {
+    this.properties.setWindowSize(4);
+    final HedgingPolicy hedgingPolicy = new HedgingPolicy(this.properties, this.requestBudget, this.meterRegistry,
+        this.nanos::get);
+
+    StepVerifier.create(hedgingPolicy.hedge(() -> {
+      this.attempts.incrementAndGet();
+      return Mono.just("primary");
+    }))
+        .expectNext("primary")
+        .verifyComplete();
+
+    assertThat(this.attempts).hasValue(1);
+    assertThat(this.meterRegistry.get("product.details.hedge.requests").counter().count()).isZero();
+    assertThat(hedgingPolicy.hedgeDelay()).isEqualTo(this.properties.getMinDelay());
+  }
+
+  @Test
+  void shouldNotHedgeWhenBudgetIsExhausted() {
+    this.requestBudget = new RequestBudget(0, 10);
+    final HedgingPolicy hedgingPolicy = new HedgingPolicy(this.properties, this.requestBudget, this.meterRegistry);
+
+    StepVerifier.create(hedgingPolicy.hedge(() -> {
+      this.attempts.incrementAndGet();
+      return Mono.just("primary").delayElement(Duration.ofMillis(200));
+    }))
+        .expectNext("primary")
+        .verifyComplete();
+
+    assertThat(this.attempts).hasValue(1);
+    assertThat(this.meterRegistry.get("product.details.hedge.requests").counter().count()).isZero();
+  }
+
+  @Test
+  void shouldPropagatePrimaryErrorWithoutWaitingForHedge() {
+    final HedgingPolicy hedgingPolicy = new HedgingPolicy(this.properties, this.requestBudget, this.meterRegistry);
+
+    StepVerifier.create(hedgingPolicy.hedge(() -> {
+      this.attempts.incrementAndGet();
+      return Mono.<String>error(new ProductDetailNotFoundException());
+    }))
+        .expectError(ProductDetailNotFoundException.class)
+        .verify(Duration.ofSeconds(1));
+
+    assertThat(this.attempts).hasValue(1);
+  }
+
+  @Test
+  void shouldIgnoreHedgeErrorAndWaitForPrimary() {
+    final HedgingPolicy hedgingPolicy = new HedgingPolicy(this.properties, this.requestBudget, this.meterRegistry);
+
+    StepVerifier.create(hedgingPolicy.hedge(() -> this.attempts.incrementAndGet() == 1
+            ? Mono.just("primary").delayElement(Duration.ofMillis(200))
+            : Mono.error(new IllegalStateException("hedge failed"))))
+        .expectNext("primary")
+        .verifyComplete();
+
+    assertThat(this.attempts).hasValue(2);
+    assertThat(this.meterRegistry.get("product.details.hedge.wins").counter().count()).isZero();
+  }
+
+  @Test
+  void shouldPassThroughWhenDisabled() {
+    this.properties.setEnabled(false);
+    final HedgingPolicy hedgingPolicy = new HedgingPolicy(this.properties, this.requestBudget, this.meterRegistry);
+
+    StepVerifier.create(hedgingPolicy.hedge(() -> {
+      this.attempts.incrementAndGet();
+      return Mono.just("primary").delayElement(Duration.ofMillis(200));
+    }))
+        .expectNext("primary")
+        .verifyComplete();
+
+    assertThat(this.attempts).hasValue(1);
+  }
+}
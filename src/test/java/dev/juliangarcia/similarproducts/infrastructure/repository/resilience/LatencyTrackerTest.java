@@ -0,0 +1,42 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyTrackerTest {
+
+  @Test
+  void shouldReportNoPercentileUntilEnoughSamplesWereRecorded() {
+    final LatencyTracker tracker = new LatencyTracker(100, 95);
+
+    tracker.record(1_000);
+
+    assertThat(tracker.percentileNanos()).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldReportPercentileOfRecentSamples() {
+    final LatencyTracker tracker = new LatencyTracker(100, 95);
+
+    for (int i = 1; i <= 100; i++) {
+      tracker.record(i);
+    }
+
+    assertThat(tracker.percentileNanos()).isEqualTo(95);
+  }
+
+  @Test
+  void shouldForgetSamplesOutsideTheWindow() {
+    final LatencyTracker tracker = new LatencyTracker(100, 50);
+
+    for (int i = 0; i < 100; i++) {
+      tracker.record(1_000_000);
+    }
+    for (int i = 0; i < 100; i++) {
+      tracker.record(10);
+    }
+
+    assertThat(tracker.percentileNanos()).isEqualTo(10);
+  }
+}
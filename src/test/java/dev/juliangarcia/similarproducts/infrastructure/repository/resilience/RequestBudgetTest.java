@@ -0,0 +1,36 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RequestBudgetTest {
+
+  @Test
+  void shouldGrantOneExtraRequestPerRatioOfRecordedRequests() {
+    final RequestBudget budget = new RequestBudget(0.1, 10);
+
+    for (int i = 0; i < 9; i++) {
+      budget.recordRequest();
+    }
+    assertThat(budget.tryAcquire()).isFalse();
+
+    budget.recordRequest();
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void shouldCapAccumulatedTokens() {
+    final RequestBudget budget = new RequestBudget(1.0, 2);
+
+    for (int i = 0; i < 10; i++) {
+      budget.recordRequest();
+    }
+
+    assertThat(budget.availableTokens()).isEqualTo(2.0);
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isFalse();
+  }
+}
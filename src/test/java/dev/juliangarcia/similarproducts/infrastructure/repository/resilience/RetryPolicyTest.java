@@ -0,0 +1,136 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import dev.juliangarcia.similarproducts.application.concurrent.RequestDeadline;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailNotFoundException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailTimeoutException;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.RestClientProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  private RestClientProperties.Retry properties;
+
+  private RequestBudget requestBudget;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    this.properties = new RestClientProperties.Retry();
+    this.properties.setInitialBackoff(Duration.ofMillis(1));
+    this.properties.setMaxBackoff(Duration.ofMillis(4));
+    this.requestBudget = new RequestBudget(1.0, 10);
+    this.meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void shouldRetryTransientFailuresUntilTheCallSucceeds() {
+    final RetryPolicy retryPolicy = new RetryPolicy(this.properties, this.requestBudget, this.meterRegistry);
+    retryPolicy.execute(() -> "warm");
+
+    final String result = retryPolicy.execute(() -> {
+      if (this.attempts.incrementAndGet() < 3) {
+        throw new ProductDetailErrorException();
+      }
+      return "ok";
+    });
+
+    assertThat(result).isEqualTo("ok");
+    assertThat(this.count("retried")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotRetryNonRetryableOutcomes() {
+    final RetryPolicy retryPolicy = new RetryPolicy(this.properties, this.requestBudget, this.meterRegistry);
+
+    assertThatThrownBy(() -> retryPolicy.execute(this.failWith(new ProductDetailNotFoundException())))
+        .isInstanceOf(ProductDetailNotFoundException.class);
+    assertThatThrownBy(() -> retryPolicy.execute(this.failWith(
+        CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("productDetails")))))
+        .isInstanceOf(CallNotPermittedException.class);
+
+    assertThat(this.attempts).hasValue(2);
+  }
+
+  @Test
+  void shouldStopRetryingWhenTheBudgetIsExhausted() {
+    this.requestBudget = new RequestBudget(0.1, 1);
+    final RetryPolicy retryPolicy = new RetryPolicy(this.properties, this.requestBudget, this.meterRegistry);
+    for (int i = 0; i < 10; i++) {
+      retryPolicy.execute(() -> "warm");
+    }
+
+    assertThatThrownBy(() -> retryPolicy.execute(this.failWith(new ProductDetailErrorException())))
+        .isInstanceOf(ProductDetailErrorException.class);
+
+    assertThat(this.attempts).hasValue(2);
+    assertThat(this.count("retried")).isEqualTo(1);
+    assertThat(this.count("budget_exhausted")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotRetryWhenHedgesHaveSpentTheSharedBudget() {
+    this.requestBudget = new RequestBudget(0.5, 1);
+    final RetryPolicy retryPolicy = new RetryPolicy(this.properties, this.requestBudget, this.meterRegistry);
+    retryPolicy.execute(() -> "warm");
+    retryPolicy.execute(() -> "warm");
+    assertThat(this.requestBudget.tryAcquire()).isTrue();
+
+    assertThatThrownBy(() -> retryPolicy.execute(this.failWith(new ProductDetailErrorException())))
+        .isInstanceOf(ProductDetailErrorException.class);
+
+    assertThat(this.attempts).hasValue(1);
+    assertThat(this.count("budget_exhausted")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotBackOffPastTheRequestDeadline() {
+    this.properties.setInitialBackoff(Duration.ofSeconds(1));
+    this.properties.setMaxBackoff(Duration.ofSeconds(1));
+    final RetryPolicy retryPolicy = new RetryPolicy(this.properties, this.requestBudget, this.meterRegistry);
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1);
+
+    assertThatThrownBy(() -> RequestDeadline.callUntil(deadline,
+        () -> retryPolicy.execute(this.failWith(new ProductDetailTimeoutException("Timeout")))))
+        .isInstanceOf(ProductDetailTimeoutException.class);
+
+    assertThat(this.attempts).hasValue(1);
+    assertThat(this.count("deadline_exceeded")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCapExponentialBackoffWithFullJitter() {
+    final RetryPolicy retryPolicy = new RetryPolicy(this.properties, this.requestBudget, this.meterRegistry);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(retryPolicy.backoffNanos(1)).isBetween(0L, TimeUnit.MILLISECONDS.toNanos(1));
+      assertThat(retryPolicy.backoffNanos(10)).isBetween(0L, TimeUnit.MILLISECONDS.toNanos(4));
+    }
+  }
+
+  private Supplier<String> failWith(final RuntimeException ex) {
+    return () -> {
+      this.attempts.incrementAndGet();
+      throw ex;
+    };
+  }
+
+  private double count(final String result) {
+    return this.meterRegistry.get(RetryPolicy.METRIC_NAME).tag("result", result).counter().count();
+  }
+}
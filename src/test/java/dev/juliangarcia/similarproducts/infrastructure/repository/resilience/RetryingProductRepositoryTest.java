@@ -0,0 +1,96 @@
+package dev.juliangarcia.similarproducts.infrastructure.repository.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.juliangarcia.similarproducts.domain.entity.ProductDetails;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.exception.ProductServiceOverloadedException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ConcurrencyLimitProperties;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.RestClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingProductRepositoryTest {
+
+  @Mock
+  private ProductRepository delegate;
+
+  private AdaptiveConcurrencyLimiter limiter;
+
+  private RetryingProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    final ConcurrencyLimitProperties limitProperties = new ConcurrencyLimitProperties();
+    limitProperties.setInitialLimit(2);
+    limitProperties.setMinLimit(1);
+    limitProperties.setBackoffRatio(0.5);
+    limitProperties.setMaxQueueWait(Duration.ZERO);
+    this.limiter = new AdaptiveConcurrencyLimiter(limitProperties, new SimpleMeterRegistry());
+
+    final RestClientProperties.Retry retryProperties = new RestClientProperties.Retry();
+    retryProperties.setInitialBackoff(Duration.ofMillis(1));
+    retryProperties.setMaxBackoff(Duration.ofMillis(1));
+    final RetryPolicy retryPolicy = new RetryPolicy(retryProperties, new RequestBudget(1.0, 10),
+        new SimpleMeterRegistry());
+    retryPolicy.execute(() -> "warm");
+
+    this.repository = new RetryingProductRepository(
+        new ConcurrencyLimitedProductRepository(this.delegate, this.limiter), retryPolicy, 2);
+  }
+
+  @Test
+  void shouldReleaseTheLimiterPermitBeforeBackingOff() {
+    final List<Integer> limitsSeenByAttempts = new ArrayList<>();
+    when(this.delegate.findProductDetailsById("1"))
+        .thenAnswer(invocation -> {
+          limitsSeenByAttempts.add(this.limiter.getLimit());
+          throw new ProductDetailErrorException();
+        })
+        .thenAnswer(invocation -> {
+          limitsSeenByAttempts.add(this.limiter.getLimit());
+          return new ProductDetails();
+        });
+
+    assertThat(this.repository.findProductDetailsById("1")).isNotNull();
+
+    assertThat(limitsSeenByAttempts).containsExactly(2, 1);
+    assertThat(this.limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldLimitSimilarProductsLookupsToTheirOwnAttempts() {
+    when(this.delegate.findSimilarProductsById("1")).thenThrow(new ProductDetailErrorException());
+
+    assertThatThrownBy(() -> this.repository.findSimilarProductsById("1"))
+        .isInstanceOf(ProductDetailErrorException.class);
+
+    verify(this.delegate, times(2)).findSimilarProductsById("1");
+  }
+
+  @Test
+  void shouldNotRetryCallsRejectedByTheLimiter() {
+    this.limiter.acquire();
+    this.limiter.acquire();
+
+    assertThatThrownBy(() -> this.repository.findProductDetailsById("1"))
+        .isInstanceOf(ProductServiceOverloadedException.class);
+
+    verify(this.delegate, never()).findProductDetailsById("1");
+  }
+}
@@ -0,0 +1,134 @@
+package dev.juliangarcia.similarproducts.infrastructure.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import dev.juliangarcia.similarproducts.application.provider.TaskExecutorProvider;
+import dev.juliangarcia.similarproducts.domain.exception.ProductDetailErrorException;
+import dev.juliangarcia.similarproducts.domain.repository.ProductRepository;
+import dev.juliangarcia.similarproducts.infrastructure.repository.cache.SimilarIdsCache;
+import dev.juliangarcia.similarproducts.infrastructure.repository.config.ProductCacheProperties;
+import dev.juliangarcia.similarproducts.infrastructure.warmup.config.WarmUpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.FileSystemResource;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmUpTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private TaskExecutorProvider executorProvider;
+
+  @TempDir
+  private Path directory;
+
+  private WarmUpProperties properties;
+
+  private SimilarIdsCache similarIdsCache;
+
+  @BeforeEach
+  void setUp() {
+    this.properties = new WarmUpProperties();
+    this.properties.setRate(10_000);
+    this.properties.setTarget(1.0);
+    this.properties.setMaxDuration(Duration.ofSeconds(5));
+    this.similarIdsCache = new SimilarIdsCache(new ProductCacheProperties.SimilarIds(), Runnable::run,
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldPrefetchSimilarProductsAndDetailsOfHotIds() throws IOException {
+    this.properties.setHotIds(new FileSystemResource(this.writeFile("hot-ids.txt", "# hot\n1\n\n2\n1\n")));
+    when(this.productRepository.findSimilarProductsById("1")).thenReturn(List.of("3", "4"));
+    when(this.productRepository.findSimilarProductsById("2")).thenReturn(List.of());
+    when(this.executorProvider.getExecutor()).thenReturn(Runnable::run);
+    final CacheWarmUp warmUp = this.createWarmUp();
+
+    assertThat(warmUp.isReady()).isFalse();
+    warmUp.run();
+
+    assertThat(warmUp.isReady()).isTrue();
+    assertThat(warmUp.getTotal()).isEqualTo(2);
+    assertThat(warmUp.getProcessed()).isEqualTo(2);
+    verify(this.productRepository).findProductDetailsById("3");
+    verify(this.productRepository).findProductDetailsById("4");
+  }
+
+  @Test
+  void shouldCountFailuresAndKeepGoing() throws IOException {
+    this.properties.setHotIds(new FileSystemResource(this.writeFile("hot-ids.txt", "1\n2\n")));
+    when(this.productRepository.findSimilarProductsById("1")).thenThrow(new ProductDetailErrorException());
+    when(this.productRepository.findSimilarProductsById("2")).thenReturn(List.of("3"));
+    when(this.executorProvider.getExecutor()).thenReturn(Runnable::run);
+    final CacheWarmUp warmUp = this.createWarmUp();
+
+    warmUp.run();
+
+    assertThat(warmUp.getFailed()).isEqualTo(1);
+    assertThat(warmUp.isReady()).isTrue();
+    verify(this.productRepository).findProductDetailsById("3");
+  }
+
+  @Test
+  void shouldPreferSnapshotOverHotIdsFile() throws IOException {
+    this.properties.setHotIds(new FileSystemResource(this.writeFile("hot-ids.txt", "1\n")));
+    this.properties.setSnapshot(this.writeFile("hot-ids.snapshot", "2\n"));
+    when(this.productRepository.findSimilarProductsById("2")).thenReturn(List.of());
+
+    this.createWarmUp().run();
+
+    verify(this.productRepository, never()).findSimilarProductsById("1");
+  }
+
+  @Test
+  void shouldSaveHottestProductIdsAsSnapshot() throws IOException {
+    final Path snapshot = this.directory.resolve("snapshots").resolve("hot-ids.snapshot");
+    this.properties.setSnapshot(snapshot);
+    this.similarIdsCache.get("7", productId -> List.of("8"));
+
+    this.createWarmUp().saveSnapshot();
+
+    assertThat(Files.readAllLines(snapshot)).containsExactly("7");
+  }
+
+  @Test
+  void shouldBecomeReadyWhenThereIsNothingToWarmUp() {
+    final CacheWarmUp warmUp = this.createWarmUp();
+
+    warmUp.run();
+
+    assertThat(warmUp.isReady()).isTrue();
+    verify(this.productRepository, never()).findSimilarProductsById(anyString());
+  }
+
+  private CacheWarmUp createWarmUp() {
+    final ObjectProvider<SimilarIdsCache> similarIdsCacheProvider =
+        new StaticListableBeanFactory(Map.of("similarIdsCache", this.similarIdsCache))
+            .getBeanProvider(SimilarIdsCache.class);
+    return new CacheWarmUp(this.productRepository, this.executorProvider, similarIdsCacheProvider, this.properties);
+  }
+
+  private Path writeFile(final String name, final String content) throws IOException {
+    return Files.writeString(this.directory.resolve(name), content);
+  }
+}